@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.tngtech.archunit.Internal;
+
+/**
+ * Holds the {@link ForkJoinPool} ArchUnit uses for all of its parallel evaluations. The pool is created lazily
+ * on first use and has a parallelism equal to the number of available processors.
+ */
+@Internal
+public final class ArchUnitForkJoinPool {
+    private ArchUnitForkJoinPool() {
+    }
+
+    public static ForkJoinPool get() {
+        return Holder.POOL;
+    }
+
+    private static class Holder {
+        private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import com.tngtech.archunit.Internal;
+
+/**
+ * An index that can narrow down the candidates some {@link DescribedPredicate} could possibly match,
+ * without evaluating the predicate against every single element.
+ *
+ * @param <C> The type of the candidates, e.g. a set of positions within the indexed elements
+ * @see DescribedPredicate#tryGetCandidatesFrom(CandidateIndex)
+ */
+@Internal
+public interface CandidateIndex<C> {
+    /**
+     * @param predicate a predicate that is not composed of other predicates
+     * @return a superset of all elements matching the predicate, if the index can answer the predicate, otherwise empty
+     */
+    Optional<C> tryGetCandidatesFor(DescribedPredicate<?> predicate);
+
+    C intersection(C first, C second);
+
+    C union(C first, C second);
+}
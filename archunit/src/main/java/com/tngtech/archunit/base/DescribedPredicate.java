@@ -15,7 +15,10 @@
  */
 package com.tngtech.archunit.base;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Iterables;
+import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -56,6 +59,38 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         return new OnResultOfPredicate<>(this, function);
     }
 
+    /**
+     * @return a hint how expensive it is to evaluate this predicate. Within {@link #and(DescribedPredicate) and(..)}
+     * and {@link #or(DescribedPredicate) or(..)} the cheaper operand is evaluated first. Predicates that do not declare
+     * a cost report {@link EvaluationCost#UNKNOWN} and are never evaluated ahead of their declared position.
+     * Subclasses can override this method to declare their cost.
+     */
+    public EvaluationCost getEvaluationCost() {
+        return EvaluationCost.UNKNOWN;
+    }
+
+    /**
+     * @param cost the cost to evaluate this predicate
+     * @return a predicate with the same description and result as this predicate, that reports the given cost
+     * @see #getEvaluationCost()
+     */
+    public DescribedPredicate<T> withEvaluationCost(EvaluationCost cost) {
+        return new WithEvaluationCostPredicate<>(this, cost);
+    }
+
+    /**
+     * Creates a predicate that remembers the result of this predicate for every input it has been applied to
+     * (inputs are compared by identity and held weakly). Sharing the returned instance between several rules
+     * evaluates an expensive predicate like {@code resideInAPackage("..domain..")} only once per object instead of
+     * once per rule. This only makes sense for predicates whose result does not change for the same input,
+     * and it only pays off if evaluating the predicate is more expensive than a lookup.
+     *
+     * @return a predicate with the same description and result as this predicate that caches its results
+     */
+    public DescribedPredicate<T> memoized() {
+        return new MemoizedPredicate<>(this);
+    }
+
     /**
      * Workaround for the limitations of the Java type system {@code ->} Can't specify this contravariant type at the language level
      */
@@ -72,6 +107,19 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         return forSubtype();
     }
 
+    /**
+     * Determines a superset of the elements this predicate can match from the given index. Predicates that only
+     * adjust the description, as well as conjunctions and disjunctions, derive their candidates from the predicates
+     * they are composed of.
+     *
+     * @param index an index over the elements this predicate will be applied to
+     * @return candidates that contain all matching elements, or empty if the index cannot answer this predicate
+     */
+    @Internal
+    public <C> Optional<C> tryGetCandidatesFrom(CandidateIndex<C> index) {
+        return index.tryGetCandidatesFor(this);
+    }
+
     @Override
     public String toString() {
         return getDescription();
@@ -184,37 +232,111 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean apply(T input) {
             return current.apply(input);
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return current.getEvaluationCost();
+        }
+
+        @Override
+        public <C> Optional<C> tryGetCandidatesFrom(CandidateIndex<C> index) {
+            return current.tryGetCandidatesFrom(index);
+        }
+    }
+
+    private static class WithEvaluationCostPredicate<T> extends DescribedPredicate<T> {
+        private final DescribedPredicate<T> current;
+        private final EvaluationCost cost;
+
+        WithEvaluationCostPredicate(DescribedPredicate<T> current, EvaluationCost cost) {
+            super(current.getDescription());
+            this.current = current;
+            this.cost = checkNotNull(cost);
+        }
+
+        @Override
+        public boolean apply(T input) {
+            return current.apply(input);
+        }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return cost;
+        }
+
+        @Override
+        public <C> Optional<C> tryGetCandidatesFrom(CandidateIndex<C> index) {
+            return current.tryGetCandidatesFrom(index);
+        }
     }
 
     private static class AndPredicate<T> extends DescribedPredicate<T> {
         private final DescribedPredicate<T> current;
         private final DescribedPredicate<? super T> other;
+        private final boolean otherFirst;
 
         AndPredicate(DescribedPredicate<T> current, DescribedPredicate<? super T> other) {
             super(current.getDescription() + " and " + other.getDescription());
             this.current = checkNotNull(current);
             this.other = checkNotNull(other);
+            this.otherFirst = other.getEvaluationCost().isCheaperThan(current.getEvaluationCost());
         }
 
         @Override
         public boolean apply(T input) {
-            return current.apply(input) && other.apply(input);
+            return otherFirst
+                    ? other.apply(input) && current.apply(input)
+                    : current.apply(input) && other.apply(input);
+        }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.max(current.getEvaluationCost(), other.getEvaluationCost());
+        }
+
+        @Override
+        public <C> Optional<C> tryGetCandidatesFrom(CandidateIndex<C> index) {
+            Optional<C> currentCandidates = current.tryGetCandidatesFrom(index);
+            Optional<C> otherCandidates = other.tryGetCandidatesFrom(index);
+            if (currentCandidates.isPresent() && otherCandidates.isPresent()) {
+                return Optional.of(index.intersection(currentCandidates.get(), otherCandidates.get()));
+            }
+            return currentCandidates.isPresent() ? currentCandidates : otherCandidates;
         }
     }
 
     private static class OrPredicate<T> extends DescribedPredicate<T> {
         private final DescribedPredicate<T> current;
         private final DescribedPredicate<? super T> other;
+        private final boolean otherFirst;
 
         OrPredicate(DescribedPredicate<T> current, DescribedPredicate<? super T> other) {
             super(current.getDescription() + " or " + other.getDescription());
             this.current = checkNotNull(current);
             this.other = checkNotNull(other);
+            this.otherFirst = other.getEvaluationCost().isCheaperThan(current.getEvaluationCost());
         }
 
         @Override
         public boolean apply(T input) {
-            return current.apply(input) || other.apply(input);
+            return otherFirst
+                    ? other.apply(input) || current.apply(input)
+                    : current.apply(input) || other.apply(input);
+        }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.max(current.getEvaluationCost(), other.getEvaluationCost());
+        }
+
+        @Override
+        public <C> Optional<C> tryGetCandidatesFrom(CandidateIndex<C> index) {
+            Optional<C> currentCandidates = current.tryGetCandidatesFrom(index);
+            Optional<C> otherCandidates = other.tryGetCandidatesFrom(index);
+            if (currentCandidates.isPresent() && otherCandidates.isPresent()) {
+                return Optional.of(index.union(currentCandidates.get(), otherCandidates.get()));
+            }
+            return Optional.empty();
         }
     }
 
@@ -234,6 +356,44 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         }
     }
 
+    private static class MemoizedPredicate<T> extends DescribedPredicate<T> {
+        private final DescribedPredicate<T> current;
+        private final Cache<Object, Boolean> resultsByInput = CacheBuilder.newBuilder().weakKeys().build();
+
+        MemoizedPredicate(DescribedPredicate<T> current) {
+            super(current.getDescription());
+            this.current = checkNotNull(current);
+        }
+
+        @Override
+        public boolean apply(T input) {
+            if (input == null) {
+                return current.apply(null);
+            }
+            Boolean result = resultsByInput.getIfPresent(input);
+            if (result == null) {
+                result = current.apply(input);
+                resultsByInput.put(input, result);
+            }
+            return result;
+        }
+
+        @Override
+        public DescribedPredicate<T> memoized() {
+            return this;
+        }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return current.getEvaluationCost();
+        }
+
+        @Override
+        public <C> Optional<C> tryGetCandidatesFrom(CandidateIndex<C> index) {
+            return current.tryGetCandidatesFrom(index);
+        }
+    }
+
     private static class NotPredicate<T> extends DescribedPredicate<T> {
         private final DescribedPredicate<T> predicate;
 
@@ -246,6 +406,11 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean apply(T input) {
             return !predicate.apply(input);
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return predicate.getEvaluationCost();
+        }
     }
 
     private static class EqualToPredicate<T> extends DescribedPredicate<T> {
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import com.tngtech.archunit.PublicAPI;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * A hint how expensive it is to evaluate a {@link DescribedPredicate}. Conjunctions and disjunctions of predicates
+ * evaluate cheaper operands first, so the more expensive ones can often be skipped. Only operands with a known cost are
+ * moved in front of others, predicates with an {@link #UNKNOWN} cost are always evaluated in declaration order.
+ *
+ * @see DescribedPredicate#getEvaluationCost()
+ * @see DescribedPredicate#withEvaluationCost(EvaluationCost)
+ */
+@PublicAPI(usage = ACCESS)
+public enum EvaluationCost {
+    /**
+     * Simple comparisons of names, flags or modifiers
+     */
+    CHEAP,
+    /**
+     * Pattern matching or lookups within the type hierarchy or annotations
+     */
+    MODERATE,
+    /**
+     * Evaluation of further predicates against members, supertypes or dependencies
+     */
+    EXPENSIVE,
+    /**
+     * No cost is known, the predicate will never be evaluated ahead of its declared position
+     */
+    UNKNOWN;
+
+    /**
+     * @return true, if both costs are known and this cost is lower than the other one. An {@link #UNKNOWN} cost
+     * is never considered cheaper or more expensive than any other cost, so such operands keep their declared position.
+     */
+    boolean isCheaperThan(EvaluationCost other) {
+        return this != UNKNOWN && other != UNKNOWN && compareTo(other) < 0;
+    }
+
+    /**
+     * @return the cost of evaluating both given costs, i.e. the more expensive one, or {@link #UNKNOWN},
+     * if any of them is unknown
+     */
+    @PublicAPI(usage = ACCESS)
+    public static EvaluationCost max(EvaluationCost first, EvaluationCost second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+}
@@ -0,0 +1,541 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Booleans;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * One or more package identifiers (compare {@link PackageMatcher}) compiled into a single position automaton
+ * (compare Glushkov's construction), i.e. every state of the automaton is one character class of an identifier
+ * (a literal character, a dot or a word character). Thus the automaton has no epsilon transitions, and matching
+ * a package name visits each character exactly once, keeping the set of active states as a bit set. Identifiers usually have less than 64 states, in which case
+ * checking if a package name matches does not allocate any memory.<br>
+ * The successors of each state are ordered by preference like the alternatives of a greedy backtracking regex.
+ * To determine capture groups we first compute for each character which states can still lead to a match of the
+ * rest of the package name. Then we walk from start to end always picking the most preferred viable successor,
+ * which yields the same groups a backtracking regex would report, but in linear time.<br>
+ * Multiple identifiers are compiled into the union of their automata, where each identifier keeps its own final states.
+ * Thus a single pass over a package name determines all identifiers matching it.
+ */
+final class PackageIdentifierAutomaton {
+    private static final String TWO_STAR_CAPTURE_LITERAL = "(**)";
+    private static final String ONE_STAR_CAPTURE_LITERAL = "(*)";
+    private static final String TWO_DOTS_LITERAL = "..";
+    private static final Set<Character> PACKAGE_CONTROL_SYMBOLS = ImmutableSet.of('*', '(', ')', '.');
+
+    private static final int WORD = 0;
+    private static final int DOT = 1;
+    private static final int LITERAL = 2;
+
+    private final int numberOfStates;
+    private final int numberOfWords;
+    private final int[] kinds;
+    private final char[] literals;
+    private final int[][] orderedSuccessors;
+    private final long[][] successorMasks;
+    private final long[][] finalStatesByIdentifier;
+    private final long[] allFinalStates;
+    private final boolean[] matchesEmptyPackageByIdentifier;
+    private final long[][] statesByAsciiCharacter;
+    private final int[] groupStartStates;
+    private final int[] groupEndStates;
+
+    private PackageIdentifierAutomaton(PatternCompiler compiler, List<Fragment> roots) {
+        numberOfStates = compiler.kinds.size();
+        numberOfWords = Math.max(1, (numberOfStates + 63) / 64);
+        kinds = toIntArray(compiler.kinds);
+        literals = new char[numberOfStates];
+        for (int state = 0; state < numberOfStates; state++) {
+            literals[state] = compiler.literals.get(state);
+        }
+        List<Integer> startSuccessors = new ArrayList<>();
+        for (Fragment root : roots) {
+            startSuccessors.addAll(root.first);
+        }
+        List<List<Integer>> successors = new ArrayList<>(compiler.successors);
+        successors.add(startSuccessors);
+        orderedSuccessors = new int[successors.size()][];
+        successorMasks = new long[successors.size()][];
+        for (int state = 0; state < orderedSuccessors.length; state++) {
+            orderedSuccessors[state] = toIntArray(successors.get(state));
+            successorMasks[state] = toMask(orderedSuccessors[state]);
+        }
+        finalStatesByIdentifier = new long[roots.size()][];
+        allFinalStates = new long[numberOfWords];
+        matchesEmptyPackageByIdentifier = new boolean[roots.size()];
+        for (int identifier = 0; identifier < roots.size(); identifier++) {
+            finalStatesByIdentifier[identifier] = toMask(toIntArray(roots.get(identifier).last));
+            or(allFinalStates, finalStatesByIdentifier[identifier]);
+            matchesEmptyPackageByIdentifier[identifier] = roots.get(identifier).nullable;
+        }
+        statesByAsciiCharacter = new long[128][];
+        for (char c = 0; c < statesByAsciiCharacter.length; c++) {
+            statesByAsciiCharacter[c] = new long[numberOfWords];
+            for (int state = 0; state < numberOfStates; state++) {
+                if (accepts(state, c)) {
+                    set(statesByAsciiCharacter[c], state);
+                }
+            }
+        }
+        groupStartStates = toIntArray(compiler.groupStartStates);
+        groupEndStates = toIntArray(compiler.groupEndStates);
+    }
+
+    private int startState() {
+        return numberOfStates;
+    }
+
+    /**
+     * @param packageIdentifiers the package identifiers to compile, validated like {@link PackageMatcher#of(String)}
+     * @return an automaton matching packages against all of the identifiers at once
+     */
+    static PackageIdentifierAutomaton compile(List<String> packageIdentifiers) {
+        PatternCompiler compiler = new PatternCompiler();
+        List<Fragment> roots = new ArrayList<>();
+        for (String packageIdentifier : packageIdentifiers) {
+            roots.add(compiler.parse(packageIdentifier));
+        }
+        return new PackageIdentifierAutomaton(compiler, roots);
+    }
+
+    boolean matchesAny(String aPackage) {
+        if (aPackage.isEmpty()) {
+            return Booleans.contains(matchesEmptyPackageByIdentifier, true);
+        }
+        return numberOfWords == 1
+                ? (activeStatesAfterSingleWordRun(aPackage) & allFinalStates[0]) != 0
+                : intersects(activeStatesAfterMultipleWordRun(aPackage), allFinalStates, 0);
+    }
+
+    /**
+     * @return for each identifier (in the order passed to {@link #compile(List)}) if it matches the package
+     */
+    boolean[] matchingIdentifiers(String aPackage) {
+        if (aPackage.isEmpty()) {
+            return matchesEmptyPackageByIdentifier.clone();
+        }
+        long[] activeStates = numberOfWords == 1
+                ? new long[]{activeStatesAfterSingleWordRun(aPackage)}
+                : activeStatesAfterMultipleWordRun(aPackage);
+        boolean[] result = new boolean[finalStatesByIdentifier.length];
+        for (int identifier = 0; identifier < result.length; identifier++) {
+            result[identifier] = intersects(finalStatesByIdentifier[identifier], activeStates, 0);
+        }
+        return result;
+    }
+
+    private long activeStatesAfterSingleWordRun(String aPackage) {
+        long activeStates = successorMasks[startState()][0] & acceptingStatesOf(aPackage.charAt(0));
+        for (int i = 1; i < aPackage.length() && activeStates != 0; i++) {
+            long nextStates = 0;
+            for (long remaining = activeStates; remaining != 0; remaining &= remaining - 1) {
+                nextStates |= successorMasks[Long.numberOfTrailingZeros(remaining)][0];
+            }
+            activeStates = nextStates & acceptingStatesOf(aPackage.charAt(i));
+        }
+        return activeStates;
+    }
+
+    private long acceptingStatesOf(char c) {
+        return c < statesByAsciiCharacter.length ? statesByAsciiCharacter[c][0] : acceptingStatesOf(c, 0);
+    }
+
+    private long[] activeStatesAfterMultipleWordRun(String aPackage) {
+        long[] activeStates = successorMasks[startState()].clone();
+        long[] nextStates = new long[numberOfWords];
+        retainAcceptingStates(activeStates, 0, aPackage.charAt(0));
+        for (int i = 1; i < aPackage.length() && !isEmpty(activeStates); i++) {
+            Arrays.fill(nextStates, 0);
+            for (int state = 0; state < numberOfStates; state++) {
+                if (contains(activeStates, state)) {
+                    or(nextStates, successorMasks[state]);
+                }
+            }
+            retainAcceptingStates(nextStates, 0, aPackage.charAt(i));
+            long[] swap = activeStates;
+            activeStates = nextStates;
+            nextStates = swap;
+        }
+        return activeStates;
+    }
+
+    private void retainAcceptingStates(long[] states, int offset, char c) {
+        for (int i = 0; i < numberOfWords; i++) {
+            states[offset + i] &= c < statesByAsciiCharacter.length ? statesByAsciiCharacter[c][i] : acceptingStatesOf(c, i);
+        }
+    }
+
+    private long acceptingStatesOf(char c, int word) {
+        long result = 0;
+        for (int state = word * 64; state < Math.min(numberOfStates, (word + 1) * 64); state++) {
+            if (accepts(state, c)) {
+                result |= 1L << state;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * May only be called for an automaton of a single identifier and a package matching that identifier.
+     * @return the package followed by the values of all capture groups of the identifier
+     */
+    String[] determineGroups(String aPackage) {
+        checkState(finalStatesByIdentifier.length == 1, "Capture groups can only be determined for a single package identifier");
+        String[] groups = new String[groupStartStates.length + 1];
+        groups[0] = aPackage;
+        if (groups.length == 1) {
+            return groups;
+        }
+        int[] statesOfMatch = determinePreferredStatesOfMatch(aPackage);
+        for (int group = 1; group < groups.length; group++) {
+            int start = aPackage.length();
+            int end = 0;
+            for (int i = 0; i < statesOfMatch.length; i++) {
+                if (groupStartStates[group - 1] <= statesOfMatch[i] && statesOfMatch[i] < groupEndStates[group - 1]) {
+                    start = Math.min(start, i);
+                    end = i + 1;
+                }
+            }
+            groups[group] = start < end ? aPackage.substring(start, end) : "";
+        }
+        return groups;
+    }
+
+    /**
+     * @return for each character of the package the state consuming it, where for each character we pick the
+     * most preferred successor that still allows to match the rest of the package
+     */
+    private int[] determinePreferredStatesOfMatch(String aPackage) {
+        int length = aPackage.length();
+        if (length == 0) {
+            return new int[0];
+        }
+        // the states that can consume character i and still lead to a match are stored at offset i * numberOfWords
+        long[] viableStates = new long[length * numberOfWords];
+        System.arraycopy(finalStatesByIdentifier[0], 0, viableStates, (length - 1) * numberOfWords, numberOfWords);
+        retainAcceptingStates(viableStates, (length - 1) * numberOfWords, aPackage.charAt(length - 1));
+        for (int i = length - 2; i >= 0; i--) {
+            int offset = i * numberOfWords;
+            for (int state = 0; state < numberOfStates; state++) {
+                if (intersects(successorMasks[state], viableStates, offset + numberOfWords)) {
+                    viableStates[offset + state / 64] |= 1L << state;
+                }
+            }
+            retainAcceptingStates(viableStates, offset, aPackage.charAt(i));
+        }
+
+        int[] result = new int[length];
+        int currentState = startState();
+        for (int i = 0; i < length; i++) {
+            currentState = firstViableSuccessor(currentState, viableStates, i * numberOfWords);
+            result[i] = currentState;
+        }
+        return result;
+    }
+
+    private int firstViableSuccessor(int state, long[] viableStates, int offset) {
+        for (int successor : orderedSuccessors[state]) {
+            if ((viableStates[offset + successor / 64] & (1L << successor)) != 0) {
+                return successor;
+            }
+        }
+        throw new IllegalStateException("No viable successor although the package matches. This is most likely a bug.");
+    }
+
+    private boolean accepts(int state, char c) {
+        switch (kinds[state]) {
+            case WORD:
+                return isWordCharacter(c);
+            case DOT:
+                return c == '.';
+            default:
+                return literals[state] == c;
+        }
+    }
+
+    private static boolean isWordCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private long[] toMask(int[] states) {
+        long[] result = new long[numberOfWords];
+        for (int state : states) {
+            set(result, state);
+        }
+        return result;
+    }
+
+    private static int[] toIntArray(List<Integer> values) {
+        int[] result = new int[values.size()];
+        for (int i = 0; i < values.size(); i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+
+    private static void set(long[] states, int state) {
+        states[state / 64] |= 1L << state;
+    }
+
+    private static boolean contains(long[] states, int state) {
+        return (states[state / 64] & (1L << state)) != 0;
+    }
+
+    private static boolean isEmpty(long[] states) {
+        for (long word : states) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean intersects(long[] first, long[] second, int secondOffset) {
+        for (int i = 0; i < first.length; i++) {
+            if ((first[i] & second[secondOffset + i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void or(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= other[i];
+        }
+    }
+
+    /**
+     * Translates package identifiers into the states of a {@link PackageIdentifierAutomaton}. Each element of the identifier
+     * is a {@link Fragment} of the automaton; we use the semantics the identifier syntax has always had, i.e.
+     * <ul>
+     * <li>'*' stands for one or more word characters</li>
+     * <li>'(*)' captures one or more word characters</li>
+     * <li>'(**)' captures one or more word characters, optionally followed by more packages (like {@code 'a.b.c'})</li>
+     * <li>'..' stands for either nothing or a dot followed by any number of packages each followed by a dot;
+     * if '..' is at the start (or end) of the identifier, it may also consume the first (or last) package</li>
+     * </ul>
+     */
+    private static final class PatternCompiler {
+        private final List<Integer> kinds = new ArrayList<>();
+        private final List<Character> literals = new ArrayList<>();
+        private final List<List<Integer>> successors = new ArrayList<>();
+        private final List<Integer> groupStartStates = new ArrayList<>();
+        private final List<Integer> groupEndStates = new ArrayList<>();
+        private String packageIdentifier;
+        private int index;
+
+        Fragment parse(String packageIdentifier) {
+            validate(packageIdentifier);
+            this.packageIdentifier = packageIdentifier;
+            this.index = 0;
+            Fragment root = parseSequence();
+            if (index < packageIdentifier.length()) {
+                throw new IllegalArgumentException(String.format("Package Identifier '%s' contains an unmatched ')'", packageIdentifier));
+            }
+            return root;
+        }
+
+        private static void validate(String packageIdentifier) {
+            if (packageIdentifier.contains("...")) {
+                throw new IllegalArgumentException("Package Identifier may not contain more than two '.' in a row");
+            }
+            if (packageIdentifier.replace("(**)", "").contains("**")) {
+                throw new IllegalArgumentException("Package Identifier may not contain more than one '*' in a row");
+            }
+            if (packageIdentifier.contains("(..)")) {
+                throw new IllegalArgumentException("Package Identifier does not support capturing via (..), use (**) instead");
+            }
+            validateCharacters(packageIdentifier);
+        }
+
+        private static void validateCharacters(String packageIdentifier) {
+            for (int i = 0; i < packageIdentifier.length(); i++) {
+                char c = packageIdentifier.charAt(i);
+                if (!Character.isJavaIdentifierPart(c) && !PACKAGE_CONTROL_SYMBOLS.contains(c)) {
+                    throw new IllegalArgumentException(
+                            String.format("Package Identifier '%s' may only consist of valid java identifier parts or the symbols '.)(*'",
+                                    packageIdentifier));
+                }
+            }
+        }
+
+        private Fragment parseSequence() {
+            Fragment result = Fragment.EMPTY;
+            while (index < packageIdentifier.length() && packageIdentifier.charAt(index) != ')') {
+                result = concat(result, parseElement());
+            }
+            return result;
+        }
+
+        private Fragment parseElement() {
+            if (packageIdentifier.startsWith(TWO_STAR_CAPTURE_LITERAL, index)) {
+                index += TWO_STAR_CAPTURE_LITERAL.length();
+                int group = openGroup();
+                Fragment result = concat(oneOrMoreWordCharacters(), zeroOrMore(concat(state(DOT), oneOrMoreWordCharacters())));
+                closeGroup(group);
+                return result;
+            }
+            if (packageIdentifier.startsWith(ONE_STAR_CAPTURE_LITERAL, index)) {
+                index += ONE_STAR_CAPTURE_LITERAL.length();
+                int group = openGroup();
+                Fragment result = oneOrMoreWordCharacters();
+                closeGroup(group);
+                return result;
+            }
+            if (packageIdentifier.startsWith(TWO_DOTS_LITERAL, index)) {
+                boolean atStart = canMatchNothing(packageIdentifier.substring(0, index));
+                index += TWO_DOTS_LITERAL.length();
+                boolean atEnd = canMatchNothing(packageIdentifier.substring(index));
+                return twoDots(atStart, atEnd);
+            }
+            char c = packageIdentifier.charAt(index++);
+            switch (c) {
+                case '(':
+                    return parseGroup();
+                case '*':
+                    return oneOrMoreWordCharacters();
+                case '.':
+                    return state(DOT);
+                default:
+                    return state(LITERAL, c);
+            }
+        }
+
+        private static boolean canMatchNothing(String partOfIdentifier) {
+            return partOfIdentifier.replace(TWO_DOTS_LITERAL, "").replace("(", "").replace(")", "").isEmpty();
+        }
+
+        private Fragment parseGroup() {
+            int group = openGroup();
+            Fragment result = parseSequence();
+            if (index >= packageIdentifier.length()) {
+                throw new IllegalArgumentException(String.format("Package Identifier '%s' contains an unmatched '('", packageIdentifier));
+            }
+            index++;
+            closeGroup(group);
+            return result;
+        }
+
+        private Fragment twoDots(boolean atStart, boolean atEnd) {
+            Fragment result = atStart ? zeroOrMore(oneOrMoreWordCharacters()) : Fragment.EMPTY;
+            result = concat(result, state(DOT));
+            result = concat(result, zeroOrMore(concat(oneOrMoreWordCharacters(), state(DOT))));
+            if (atEnd) {
+                result = concat(result, zeroOrMore(oneOrMoreWordCharacters()));
+            }
+            return result.optional();
+        }
+
+        private int openGroup() {
+            groupStartStates.add(kinds.size());
+            groupEndStates.add(-1);
+            return groupEndStates.size() - 1;
+        }
+
+        private void closeGroup(int group) {
+            groupEndStates.set(group, kinds.size());
+        }
+
+        private Fragment oneOrMoreWordCharacters() {
+            return oneOrMore(state(WORD));
+        }
+
+        private Fragment zeroOrMore(Fragment fragment) {
+            return oneOrMore(fragment).optional();
+        }
+
+        private Fragment oneOrMore(Fragment fragment) {
+            for (int last : fragment.last) {
+                addSuccessors(last, fragment.first);
+            }
+            return fragment;
+        }
+
+        private Fragment concat(Fragment first, Fragment second) {
+            for (int last : first.last) {
+                addSuccessors(last, second.first);
+            }
+            List<Integer> firstStates = new ArrayList<>(first.first);
+            if (first.nullable) {
+                firstStates.addAll(second.first);
+            }
+            List<Integer> lastStates = new ArrayList<>(second.last);
+            if (second.nullable) {
+                lastStates.addAll(first.last);
+            }
+            return new Fragment(firstStates, lastStates, first.nullable && second.nullable);
+        }
+
+        private void addSuccessors(int state, List<Integer> newSuccessors) {
+            List<Integer> stateSuccessors = successors.get(state);
+            for (int successor : newSuccessors) {
+                if (!stateSuccessors.contains(successor)) {
+                    stateSuccessors.add(successor);
+                }
+            }
+        }
+
+        private Fragment state(int kind) {
+            return state(kind, (char) 0);
+        }
+
+        private Fragment state(int kind, char literal) {
+            int state = kinds.size();
+            kinds.add(kind);
+            literals.add(literal);
+            successors.add(new ArrayList<Integer>());
+            return new Fragment(singletonList(state), singletonList(state), false);
+        }
+
+        private static List<Integer> singletonList(int state) {
+            List<Integer> result = new ArrayList<>();
+            result.add(state);
+            return result;
+        }
+    }
+
+    /**
+     * A part of the automaton with the states it can be entered by, the states it can be left from and
+     * whether it can be skipped entirely.
+     */
+    private static final class Fragment {
+        static final Fragment EMPTY = new Fragment(ImmutableList.<Integer>of(), ImmutableList.<Integer>of(), true);
+
+        private final List<Integer> first;
+        private final List<Integer> last;
+        private final boolean nullable;
+
+        Fragment(List<Integer> first, List<Integer> last, boolean nullable) {
+            this.first = first;
+            this.last = last;
+            this.nullable = nullable;
+        }
+
+        Fragment optional() {
+            return new Fragment(first, last, true);
+        }
+    }
+}
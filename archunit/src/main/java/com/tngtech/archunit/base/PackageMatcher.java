@@ -17,14 +17,13 @@ package com.tngtech.archunit.base;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import com.google.common.collect.ImmutableSet;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.Collections.singletonList;
 
 /**
  * Matches packages with a syntax similar to AspectJ. In particular '*' stands for any sequence of
@@ -50,58 +49,18 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
  * Create via {@link PackageMatcher#of(String) PackageMatcher.of(packageIdentifier)}
  */
 public final class PackageMatcher {
-    private static final String OPT_LETTERS_AT_START = "(?:^\\w*)?";
-    private static final String OPT_LETTERS_AT_END = "(?:\\w*$)?";
-    private static final String ARBITRARY_PACKAGES = "\\.(?:\\w+\\.)*";
-    private static final String TWO_DOTS_REGEX = String.format("(?:%s%s%s)?", OPT_LETTERS_AT_START, ARBITRARY_PACKAGES, OPT_LETTERS_AT_END);
-
-    private static final String TWO_STAR_CAPTURE_LITERAL = "(**)";
-    private static final String TWO_STAR_CAPTURE_REGEX = "(\\w+(?:\\.\\w+)*)";
     static final String TWO_STAR_REGEX_MARKER = "#%#%#";
-
-    private static final Set<Character> PACKAGE_CONTROL_SYMBOLS = ImmutableSet.of('*', '(', ')', '.');
+    // enough for the packages of almost any code base, while still bounding the memory of a long living matcher
+    static final int MAX_NUMBER_OF_CACHED_PACKAGES = 10000;
 
     private final String packageIdentifier;
-    private final Pattern packagePattern;
+    private final PackageIdentifierAutomaton automaton;
+    private final Cache<String, Optional<Result>> resultsByPackageName =
+            CacheBuilder.newBuilder().maximumSize(MAX_NUMBER_OF_CACHED_PACKAGES).build();
 
     private PackageMatcher(String packageIdentifier) {
-        validate(packageIdentifier);
-
         this.packageIdentifier = packageIdentifier;
-        this.packagePattern = Pattern.compile(convertToRegex(packageIdentifier));
-    }
-
-    private void validate(String packageIdentifier) {
-        if (packageIdentifier.contains("...")) {
-            throw new IllegalArgumentException("Package Identifier may not contain more than two '.' in a row");
-        }
-        if (packageIdentifier.replace("(**)", "").contains("**")) {
-            throw new IllegalArgumentException("Package Identifier may not contain more than one '*' in a row");
-        }
-        if (packageIdentifier.contains("(..)")) {
-            throw new IllegalArgumentException("Package Identifier does not support capturing via (..), use (**) instead");
-        }
-        validateCharacters(packageIdentifier);
-    }
-
-    private void validateCharacters(String packageIdentifier) {
-        for (int i = 0; i < packageIdentifier.length(); i++) {
-            char c = packageIdentifier.charAt(i);
-            if (!Character.isJavaIdentifierPart(c) && !PACKAGE_CONTROL_SYMBOLS.contains(c)) {
-                throw new IllegalArgumentException(
-                        String.format("Package Identifier '%s' may only consist of valid java identifier parts or the symbols '.)(*'",
-                                packageIdentifier));
-            }
-        }
-    }
-
-    private String convertToRegex(String packageIdentifier) {
-        return packageIdentifier.
-                replace(TWO_STAR_CAPTURE_LITERAL, TWO_STAR_REGEX_MARKER).
-                replace("*", "\\w+").
-                replace(".", "\\.").
-                replace(TWO_STAR_REGEX_MARKER, TWO_STAR_CAPTURE_REGEX).
-                replace("\\.\\.", TWO_DOTS_REGEX);
+        this.automaton = PackageIdentifierAutomaton.compile(singletonList(packageIdentifier));
     }
 
     /**
@@ -118,7 +77,7 @@ public final class PackageMatcher {
 
     @PublicAPI(usage = ACCESS)
     public boolean matches(String aPackage) {
-        return packagePattern.matcher(aPackage).matches();
+        return match(aPackage).isPresent();
     }
 
     /**
@@ -132,8 +91,14 @@ public final class PackageMatcher {
      */
     @PublicAPI(usage = ACCESS)
     public Optional<Result> match(String aPackage) {
-        Matcher matcher = packagePattern.matcher(aPackage);
-        return matcher.matches() ? Optional.of(new Result(matcher)) : Optional.<Result>empty();
+        Optional<Result> result = resultsByPackageName.getIfPresent(aPackage);
+        if (result == null) {
+            result = automaton.matchesAny(aPackage)
+                    ? Optional.of(new Result(automaton.determineGroups(aPackage)))
+                    : Optional.<Result>empty();
+            resultsByPackageName.put(aPackage, result);
+        }
+        return result;
     }
 
     @Override
@@ -142,20 +107,20 @@ public final class PackageMatcher {
     }
 
     public static final class Result {
-        private final Matcher matcher;
+        private final String[] groups;
 
-        private Result(Matcher matcher) {
-            this.matcher = matcher;
+        private Result(String[] groups) {
+            this.groups = groups;
         }
 
         @PublicAPI(usage = ACCESS)
         public int getNumberOfGroups() {
-            return matcher.groupCount();
+            return groups.length - 1;
         }
 
         @PublicAPI(usage = ACCESS)
         public String getGroup(int number) {
-            return matcher.group(number);
+            return groups[number];
         }
     }
 
@@ -19,22 +19,30 @@ import java.util.Collection;
 import java.util.Set;
 
 import com.google.common.base.Joiner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
+/**
+ * Matches packages against several package identifiers (compare {@link PackageMatcher}) at once. All identifiers
+ * are compiled into one combined automaton, so a single pass over a package name determines every identifier
+ * matching it, no matter how many identifiers there are.
+ */
 @PublicAPI(usage = ACCESS)
 public final class PackageMatchers extends DescribedPredicate<String> {
-    private final Set<PackageMatcher> packageMatchers;
+    private final ImmutableList<String> packageIdentifiers;
+    private final PackageIdentifierAutomaton automaton;
+    private final Cache<String, Set<String>> matchingIdentifiersByPackageName =
+            CacheBuilder.newBuilder().maximumSize(PackageMatcher.MAX_NUMBER_OF_CACHED_PACKAGES).build();
 
     private PackageMatchers(Set<String> packageIdentifiers) {
         super("matches any of ['%s']", Joiner.on("', '").join(packageIdentifiers));
-        ImmutableSet.Builder<PackageMatcher> matchers = ImmutableSet.builder();
-        for (String identifier : packageIdentifiers) {
-            matchers.add(PackageMatcher.of(identifier));
-        }
-        packageMatchers = matchers.build();
+        this.packageIdentifiers = ImmutableList.copyOf(packageIdentifiers);
+        this.automaton = PackageIdentifierAutomaton.compile(this.packageIdentifiers);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -50,10 +58,28 @@ public final class PackageMatchers extends DescribedPredicate<String> {
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean apply(String aPackage) {
-        boolean matches = false;
-        for (PackageMatcher matcher : packageMatchers) {
-            matches = matches || matcher.matches(aPackage);
+        return !getMatchingPackageIdentifiers(aPackage).isEmpty();
+    }
+
+    /**
+     * @param aPackage The package name to match against
+     * @return All package identifiers of this {@link PackageMatchers} that match the given package name
+     * (compare {@link PackageMatcher#matches(String)}), in the order they have been passed in
+     */
+    @PublicAPI(usage = ACCESS)
+    public Set<String> getMatchingPackageIdentifiers(String aPackage) {
+        Set<String> result = matchingIdentifiersByPackageName.getIfPresent(aPackage);
+        if (result == null) {
+            boolean[] matches = automaton.matchingIdentifiers(aPackage);
+            ImmutableSet.Builder<String> matchingIdentifiers = ImmutableSet.builder();
+            for (int i = 0; i < matches.length; i++) {
+                if (matches[i]) {
+                    matchingIdentifiers.add(packageIdentifiers.get(i));
+                }
+            }
+            result = matchingIdentifiers.build();
+            matchingIdentifiersByPackageName.put(aPackage, result);
         }
-        return matches;
+        return result;
     }
 }
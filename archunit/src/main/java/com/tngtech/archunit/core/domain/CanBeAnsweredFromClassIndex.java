@@ -0,0 +1,33 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.Set;
+
+import com.tngtech.archunit.Internal;
+
+/**
+ * A predicate on {@link JavaClass} that can be answered from the secondary indexes of {@link JavaClasses},
+ * i.e. {@link JavaClasses#that(com.tngtech.archunit.base.DescribedPredicate) JavaClasses.that(predicate)}
+ * only needs to evaluate the predicate against the classes found under its keys, instead of all classes.
+ */
+@Internal
+public interface CanBeAnsweredFromClassIndex {
+    /**
+     * @return keys, such that every class matching this predicate can be found under at least one of them
+     */
+    Set<ClassIndexKey> getClassIndexKeys();
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.tngtech.archunit.base.CandidateIndex;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.Optional;
+
+/**
+ * Secondary indexes over a fixed list of classes, answering {@link CanBeAnsweredFromClassIndex} predicates
+ * by the positions of all candidate classes within that list. Every single index is only built on first use,
+ * since most rules only ever filter by a few different properties.
+ */
+final class ClassIndex implements CandidateIndex<BitSet> {
+    private final List<JavaClass> classes;
+
+    private final Supplier<Map<String, List<Integer>>> positionsByName = Suppliers.memoize(new Supplier<Map<String, List<Integer>>>() {
+        @Override
+        public Map<String, List<Integer>> get() {
+            Map<String, List<Integer>> result = new HashMap<>();
+            for (int position = 0; position < classes.size(); position++) {
+                put(result, classes.get(position).getName(), position);
+            }
+            return result;
+        }
+    });
+    private final Supplier<NavigableMap<String, List<Integer>>> positionsByPackageName = Suppliers.memoize(new Supplier<NavigableMap<String, List<Integer>>>() {
+        @Override
+        public NavigableMap<String, List<Integer>> get() {
+            NavigableMap<String, List<Integer>> result = new TreeMap<>();
+            for (int position = 0; position < classes.size(); position++) {
+                put(result, classes.get(position).getPackageName(), position);
+            }
+            return result;
+        }
+    });
+    private final Supplier<NavigableMap<String, List<Integer>>> positionsByReversedSimpleName = Suppliers.memoize(new Supplier<NavigableMap<String, List<Integer>>>() {
+        @Override
+        public NavigableMap<String, List<Integer>> get() {
+            NavigableMap<String, List<Integer>> result = new TreeMap<>();
+            for (int position = 0; position < classes.size(); position++) {
+                put(result, reverse(classes.get(position).getSimpleName()), position);
+            }
+            return result;
+        }
+    });
+    private final Supplier<Map<String, List<Integer>>> positionsByAnnotationTypeName = Suppliers.memoize(new Supplier<Map<String, List<Integer>>>() {
+        @Override
+        public Map<String, List<Integer>> get() {
+            Map<String, List<Integer>> result = new HashMap<>();
+            for (int position = 0; position < classes.size(); position++) {
+                for (JavaAnnotation<JavaClass> annotation : classes.get(position).getAnnotations()) {
+                    put(result, annotation.getRawType().getName(), position);
+                }
+            }
+            return result;
+        }
+    });
+    private final Supplier<Map<String, List<Integer>>> positionsByMetaAnnotationTypeName = Suppliers.memoize(new Supplier<Map<String, List<Integer>>>() {
+        @Override
+        public Map<String, List<Integer>> get() {
+            Map<String, List<Integer>> result = new HashMap<>();
+            for (int position = 0; position < classes.size(); position++) {
+                for (JavaAnnotation<JavaClass> annotation : classes.get(position).getAnnotations()) {
+                    for (String metaAnnotationTypeName : annotation.getRawType().getMetaAnnotationTypeNames()) {
+                        putOnce(result, metaAnnotationTypeName, position);
+                    }
+                }
+            }
+            return result;
+        }
+    });
+    private final Supplier<Map<String, List<Integer>>> positionsBySupertypeName = Suppliers.memoize(new Supplier<Map<String, List<Integer>>>() {
+        @Override
+        public Map<String, List<Integer>> get() {
+            Map<String, List<Integer>> result = new HashMap<>();
+            for (int position = 0; position < classes.size(); position++) {
+                JavaClass clazz = classes.get(position);
+                for (JavaClass superclass : clazz.getClassHierarchy()) {
+                    put(result, superclass.getName(), position);
+                }
+                for (JavaClass rawInterface : clazz.getAllRawInterfaces()) {
+                    put(result, rawInterface.getName(), position);
+                }
+            }
+            return result;
+        }
+    });
+    private final Supplier<Map<String, List<Integer>>> positionsByModifier = Suppliers.memoize(new Supplier<Map<String, List<Integer>>>() {
+        @Override
+        public Map<String, List<Integer>> get() {
+            Map<String, List<Integer>> result = new HashMap<>();
+            for (int position = 0; position < classes.size(); position++) {
+                for (JavaModifier modifier : classes.get(position).getModifiers()) {
+                    put(result, modifier.name(), position);
+                }
+            }
+            return result;
+        }
+    });
+
+    ClassIndex(List<JavaClass> classes) {
+        this.classes = classes;
+    }
+
+    JavaClass get(int position) {
+        return classes.get(position);
+    }
+
+    @Override
+    public Optional<BitSet> tryGetCandidatesFor(DescribedPredicate<?> predicate) {
+        if (!(predicate instanceof CanBeAnsweredFromClassIndex)) {
+            return Optional.empty();
+        }
+
+        BitSet result = new BitSet(classes.size());
+        for (ClassIndexKey key : ((CanBeAnsweredFromClassIndex) predicate).getClassIndexKeys()) {
+            addCandidates(result, key);
+        }
+        return Optional.of(result);
+    }
+
+    private void addCandidates(BitSet result, ClassIndexKey key) {
+        String value = key.getValue();
+        switch (key.getType()) {
+            case NAME:
+                addAll(result, positionsByName.get().get(value));
+                return;
+            case PACKAGE_TREE:
+                addAll(result, positionsByPackageName.get().get(value));
+                addAllStartingWith(result, positionsByPackageName.get(), value + ".");
+                return;
+            case SIMPLE_NAME_SUFFIX:
+                addAllStartingWith(result, positionsByReversedSimpleName.get(), reverse(value));
+                return;
+            case ANNOTATION:
+                addAll(result, positionsByAnnotationTypeName.get().get(value));
+                return;
+            case META_ANNOTATION:
+                addAll(result, positionsByMetaAnnotationTypeName.get().get(value));
+                return;
+            case SUPERTYPE:
+                addAll(result, positionsBySupertypeName.get().get(value));
+                return;
+            case MODIFIER:
+                addAll(result, positionsByModifier.get().get(value));
+                return;
+            default:
+                throw new IllegalStateException("Unknown type of key " + key);
+        }
+    }
+
+    @Override
+    public BitSet intersection(BitSet first, BitSet second) {
+        BitSet result = (BitSet) first.clone();
+        result.and(second);
+        return result;
+    }
+
+    @Override
+    public BitSet union(BitSet first, BitSet second) {
+        BitSet result = (BitSet) first.clone();
+        result.or(second);
+        return result;
+    }
+
+    private static void addAllStartingWith(BitSet result, NavigableMap<String, List<Integer>> positionsByKey, String prefix) {
+        for (Map.Entry<String, List<Integer>> entry : positionsByKey.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                return;
+            }
+            addAll(result, entry.getValue());
+        }
+    }
+
+    private static void addAll(BitSet result, List<Integer> positions) {
+        for (int position : positions != null ? positions : Collections.<Integer>emptyList()) {
+            result.set(position);
+        }
+    }
+
+    private static void put(Map<String, List<Integer>> positionsByKey, String key, int position) {
+        List<Integer> positions = positionsByKey.get(key);
+        if (positions == null) {
+            positions = new ArrayList<>();
+            positionsByKey.put(key, positions);
+        }
+        positions.add(position);
+    }
+
+    private static void putOnce(Map<String, List<Integer>> positionsByKey, String key, int position) {
+        List<Integer> positions = positionsByKey.get(key);
+        if (positions == null || positions.get(positions.size() - 1) != position) {
+            put(positionsByKey, key, position);
+        }
+    }
+
+    private static String reverse(String string) {
+        return new StringBuilder(string).reverse().toString();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.Objects;
+
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.base.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A key to look up candidate classes within the secondary indexes of {@link JavaClasses}.
+ *
+ * @see CanBeAnsweredFromClassIndex
+ */
+@Internal
+public final class ClassIndexKey {
+    private final Type type;
+    private final String value;
+
+    private ClassIndexKey(Type type, String value) {
+        this.type = checkNotNull(type);
+        this.value = checkNotNull(value);
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    String getValue() {
+        return value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final ClassIndexKey other = (ClassIndexKey) obj;
+        return Objects.equals(this.type, other.type)
+                && Objects.equals(this.value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + type + "=" + value + '}';
+    }
+
+    /**
+     * @return key of all classes with the given fully qualified name
+     */
+    public static ClassIndexKey name(String name) {
+        return new ClassIndexKey(Type.NAME, name);
+    }
+
+    /**
+     * @return key of all classes residing in the given package or any subpackage
+     */
+    public static ClassIndexKey packageTree(String packageName) {
+        return new ClassIndexKey(Type.PACKAGE_TREE, packageName);
+    }
+
+    /**
+     * Determines the package tree all packages matching a package identifier (compare {@link com.tngtech.archunit.base.PackageMatcher})
+     * must reside in, i.e. the leading package segments of the identifier that do not contain any wildcard.
+     * E.g. {@code com.foo.*.service} is answered by the package tree {@code com.foo}, while {@code ..service..}
+     * or {@code *.foo} cannot be answered by any package tree.
+     *
+     * @return key of the package tree containing all packages matching the identifier, if there is any
+     */
+    public static Optional<ClassIndexKey> packageTreeOf(String packageIdentifier) {
+        int endOfLiteral = 0;
+        while (endOfLiteral < packageIdentifier.length()
+                && !isPackageWildcard(packageIdentifier.charAt(endOfLiteral))
+                && !packageIdentifier.startsWith("..", endOfLiteral)) {
+            endOfLiteral++;
+        }
+        String literal = packageIdentifier.substring(0, endOfLiteral);
+        String remainder = packageIdentifier.substring(endOfLiteral);
+        String packageTree = remainder.isEmpty() || remainder.equals("..")
+                ? literal
+                : literal.substring(0, Math.max(literal.lastIndexOf('.'), 0));
+        return !packageTree.isEmpty()
+                ? Optional.of(packageTree(packageTree))
+                : Optional.<ClassIndexKey>empty();
+    }
+
+    private static boolean isPackageWildcard(char c) {
+        return c == '*' || c == '(' || c == ')';
+    }
+
+    /**
+     * @return key of all classes with a simple name ending with the given suffix
+     */
+    public static ClassIndexKey simpleNameSuffix(String suffix) {
+        return new ClassIndexKey(Type.SIMPLE_NAME_SUFFIX, suffix);
+    }
+
+    /**
+     * @return key of all classes directly annotated with the given annotation type
+     */
+    public static ClassIndexKey annotation(String annotationTypeName) {
+        return new ClassIndexKey(Type.ANNOTATION, annotationTypeName);
+    }
+
+    /**
+     * @return key of all classes annotated or meta-annotated with the given annotation type
+     */
+    public static ClassIndexKey metaAnnotation(String annotationTypeName) {
+        return new ClassIndexKey(Type.META_ANNOTATION, annotationTypeName);
+    }
+
+    /**
+     * @return key of all classes assignable to the given type
+     */
+    public static ClassIndexKey supertype(String typeName) {
+        return new ClassIndexKey(Type.SUPERTYPE, typeName);
+    }
+
+    /**
+     * @return key of all classes with the given modifier
+     */
+    public static ClassIndexKey modifier(JavaModifier modifier) {
+        return new ClassIndexKey(Type.MODIFIER, modifier.name());
+    }
+
+    enum Type {
+        NAME,
+        PACKAGE_TREE,
+        SIMPLE_NAME_SUFFIX,
+        ANNOTATION,
+        META_ANNOTATION,
+        SUPERTYPE,
+        MODIFIER
+    }
+}
@@ -16,6 +16,7 @@
 package com.tngtech.archunit.core.domain;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.Map;
 
 import com.google.common.collect.ImmutableMap;
@@ -98,6 +99,15 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
         this.values = checkNotNull(builder.getValues(this));
     }
 
+    static boolean anyIsMetaAnnotatedWith(Collection<? extends JavaAnnotation<?>> annotations, String annotationTypeName) {
+        for (JavaAnnotation<?> annotation : annotations) {
+            if (annotation.getRawType().getMetaAnnotationTypeNames().contains(annotationTypeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static CanBeAnnotated getAnnotatedElement(Object owner) {
         Object candiate = owner;
         while (!(candiate instanceof CanBeAnnotated) && (candiate instanceof HasOwner<?>)) {
@@ -16,7 +16,9 @@
 package com.tngtech.archunit.core.domain;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -31,9 +33,11 @@ import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ArchUnitException.InvalidSyntaxUsageException;
 import com.tngtech.archunit.base.ChainableFunction;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.EvaluationCost;
 import com.tngtech.archunit.base.Function;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.MayResolveTypesViaReflection;
 import com.tngtech.archunit.core.ResolvesTypesViaReflection;
 import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
@@ -51,6 +55,9 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
 import static com.tngtech.archunit.base.DescribedPredicate.equalTo;
 import static com.tngtech.archunit.base.DescribedPredicate.not;
+import static com.tngtech.archunit.base.EvaluationCost.CHEAP;
+import static com.tngtech.archunit.base.EvaluationCost.EXPENSIVE;
+import static com.tngtech.archunit.base.EvaluationCost.MODERATE;
 import static com.tngtech.archunit.core.domain.Formatters.formatNamesOf;
 import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_CODE_UNITS;
 import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_CONSTRUCTORS;
@@ -63,7 +70,6 @@ import static com.tngtech.archunit.core.domain.JavaModifier.ENUM;
 import static com.tngtech.archunit.core.domain.JavaType.Functions.TO_ERASURE;
 import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Utils.toAnnotationOfType;
 import static com.tngtech.archunit.core.domain.properties.HasName.Functions.GET_NAME;
-import static com.tngtech.archunit.core.domain.properties.HasType.Functions.GET_RAW_TYPE;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 
@@ -71,6 +77,7 @@ public class JavaClass
         implements JavaType, HasName.AndFullName, HasTypeParameters<JavaClass>, HasAnnotations<JavaClass>, HasModifiers, HasSourceCodeLocation {
 
     private final Optional<Source> source;
+    private final SourceCodeLocation.SourceFile sourceFile = new SourceCodeLocation.SourceFile(this);
     private final SourceCodeLocation sourceCodeLocation;
     private final JavaClassDescriptor descriptor;
     private JavaPackage javaPackage;
@@ -123,6 +130,10 @@ public class JavaClass
     private final Supplier<Set<JavaClass>> allSubclasses = Suppliers.memoize(new Supplier<Set<JavaClass>>() {
         @Override
         public Set<JavaClass> get() {
+            if (typeHierarchy.contains(JavaClass.this)) {
+                return typeHierarchy.getAllSubclasses(JavaClass.this);
+            }
+
             Set<JavaClass> result = new HashSet<>();
             for (JavaClass subclass : subclasses) {
                 result.add(subclass);
@@ -131,11 +142,29 @@ public class JavaClass
             return result;
         }
     });
+    private final Supplier<Set<String>> metaAnnotationTypeNames = Suppliers.memoize(new Supplier<Set<String>>() {
+        @Override
+        public Set<String> get() {
+            Set<String> result = new HashSet<>();
+            Deque<JavaClass> toVisit = new ArrayDeque<>();
+            toVisit.add(JavaClass.this);
+            while (!toVisit.isEmpty()) {
+                JavaClass annotationType = toVisit.poll();
+                if (result.add(annotationType.getName())) {
+                    for (JavaAnnotation<JavaClass> metaAnnotation : annotationType.annotations.values()) {
+                        toVisit.add(metaAnnotation.getRawType());
+                    }
+                }
+            }
+            return ImmutableSet.copyOf(result);
+        }
+    });
     private EnclosingDeclaration enclosingDeclaration = EnclosingDeclaration.ABSENT;
     private Optional<JavaClass> componentType = Optional.empty();
     private Map<String, JavaAnnotation<JavaClass>> annotations = emptyMap();
     private JavaClassDependencies javaClassDependencies = new JavaClassDependencies(this);  // just for stubs; will be overwritten for imported classes
     private ReverseDependencies reverseDependencies = ReverseDependencies.EMPTY;  // just for stubs; will be overwritten for imported classes
+    private TypeHierarchy typeHierarchy = TypeHierarchy.EMPTY;  // just for stubs; will be overwritten for imported classes
     private final CompletionProcess completionProcess = CompletionProcess.start();
 
     JavaClass(JavaClassBuilder builder) {
@@ -582,7 +611,7 @@ public class JavaClass
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean isMetaAnnotatedWith(String typeName) {
-        return isMetaAnnotatedWith(GET_RAW_TYPE.then(GET_NAME).is(equalTo(typeName)));
+        return JavaAnnotation.anyIsMetaAnnotatedWith(annotations.values(), typeName);
     }
 
     @Override
@@ -1419,6 +1448,9 @@ public class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableFrom(String typeName) {
+        if (typeHierarchy.contains(this)) {
+            return typeHierarchy.isAssignableFrom(this, typeName);
+        }
         return isAssignableFrom(GET_NAME.is(equalTo(typeName)));
     }
 
@@ -1437,6 +1469,9 @@ public class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableTo(final String typeName) {
+        if (typeHierarchy.contains(this)) {
+            return typeHierarchy.isAssignable(this, typeName);
+        }
         return isAssignableTo(GET_NAME.is(equalTo(typeName)));
     }
 
@@ -1552,6 +1587,23 @@ public class JavaClass
         }
     }
 
+    /**
+     * @return The name of this class together with the names of all annotation types this class is (transitively)
+     * annotated with, i.e. if this class is an annotation type, every annotation carrying it is meta-annotated with
+     * any of these types. The result is computed once and shared by all queries for meta-annotations.
+     */
+    Set<String> getMetaAnnotationTypeNames() {
+        return metaAnnotationTypeNames.get();
+    }
+
+    SourceCodeLocation.SourceFile getSourceFile() {
+        return sourceFile;
+    }
+
+    void setTypeHierarchy(TypeHierarchy typeHierarchy) {
+        this.typeHierarchy = typeHierarchy;
+    }
+
     void setReverseDependencies(ReverseDependencies reverseDependencies) {
         this.reverseDependencies = reverseDependencies;
         members.setReverseDependencies(reverseDependencies);
@@ -2132,12 +2184,12 @@ public class JavaClass
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> type(final Class<?> type) {
-            return equalTo(type.getName()).<JavaClass>onResultOf(GET_NAME).as("type " + type.getName());
+            return equalTo(type.getName()).<JavaClass>onResultOf(GET_NAME).as("type " + type.getName()).withEvaluationCost(CHEAP);
         }
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> simpleName(final String name) {
-            return equalTo(name).onResultOf(GET_SIMPLE_NAME).as("simple name '%s'", name);
+            return equalTo(name).onResultOf(GET_SIMPLE_NAME).as("simple name '%s'", name).withEvaluationCost(CHEAP);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -2194,7 +2246,7 @@ public class JavaClass
          */
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> assignableTo(final String typeName) {
-            return assignableTo(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new AssignableToTypeNamePredicate(typeName);
         }
 
         /**
@@ -2202,7 +2254,7 @@ public class JavaClass
          */
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> assignableFrom(final String typeName) {
-            return assignableFrom(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new AssignableFromTypeNamePredicate(typeName);
         }
 
         /**
@@ -2306,11 +2358,17 @@ public class JavaClass
         }
 
         private static DescribedPredicate<JavaClass> resideInAnyPackage(final String[] packageIdentifiers, final String description) {
-            final Set<PackageMatcher> packageMatchers = new HashSet<>();
+            final PackageMatchers packageMatchers = PackageMatchers.of(packageIdentifiers);
+            final Set<ClassIndexKey> packageTrees = new HashSet<>();
+            boolean allPackageTreesKnown = true;
             for (String identifier : packageIdentifiers) {
-                packageMatchers.add(PackageMatcher.of(identifier));
+                Optional<ClassIndexKey> packageTree = ClassIndexKey.packageTreeOf(identifier);
+                packageTrees.addAll(packageTree.asSet());
+                allPackageTreesKnown = allPackageTreesKnown && packageTree.isPresent();
             }
-            return new PackageMatchesPredicate(packageMatchers, description);
+            return allPackageTreesKnown
+                    ? new PackageTreesMatchesPredicate(packageMatchers, packageTrees, description)
+                    : new PackageMatchesPredicate(packageMatchers, description);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -2443,6 +2501,11 @@ public class JavaClass
                 return false;
             }
 
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return MODERATE;
+            }
+
             private boolean belongsTo(JavaClass input, Class<?> clazz) {
                 JavaClass toTest = input;
                 while (!toTest.isEquivalentTo(clazz) && toTest.getEnclosingClass().isPresent()) {
@@ -2464,6 +2527,11 @@ public class JavaClass
             public boolean apply(JavaClass input) {
                 return input.getSimpleName().startsWith(prefix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return CHEAP;
+            }
         }
 
         private static class SimpleNameContainingPredicate extends DescribedPredicate<JavaClass> {
@@ -2478,9 +2546,14 @@ public class JavaClass
             public boolean apply(JavaClass input) {
                 return input.getSimpleName().contains(infix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return CHEAP;
+            }
         }
 
-        private static class SimpleNameEndingWithPredicate extends DescribedPredicate<JavaClass> {
+        private static class SimpleNameEndingWithPredicate extends DescribedPredicate<JavaClass> implements CanBeAnsweredFromClassIndex {
             private final String suffix;
 
             SimpleNameEndingWithPredicate(String suffix) {
@@ -2492,6 +2565,16 @@ public class JavaClass
             public boolean apply(JavaClass input) {
                 return input.getSimpleName().endsWith(suffix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return CHEAP;
+            }
+
+            @Override
+            public Set<ClassIndexKey> getClassIndexKeys() {
+                return Collections.singleton(ClassIndexKey.simpleNameSuffix(suffix));
+            }
         }
 
         private static class AssignableToPredicate extends DescribedPredicate<JavaClass> {
@@ -2506,6 +2589,11 @@ public class JavaClass
             public boolean apply(JavaClass input) {
                 return input.isAssignableTo(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.max(EXPENSIVE, predicate.getEvaluationCost());
+            }
         }
 
         private static class AssignableFromPredicate extends DescribedPredicate<JavaClass> {
@@ -2520,28 +2608,90 @@ public class JavaClass
             public boolean apply(JavaClass input) {
                 return input.isAssignableFrom(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.max(EXPENSIVE, predicate.getEvaluationCost());
+            }
+        }
+
+        private static class AssignableToTypeNamePredicate extends DescribedPredicate<JavaClass> implements CanBeAnsweredFromClassIndex {
+            private final String typeName;
+
+            AssignableToTypeNamePredicate(String typeName) {
+                super("assignable to " + typeName);
+                this.typeName = typeName;
+            }
+
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.isAssignableTo(typeName);
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return MODERATE;
+            }
+
+            @Override
+            public Set<ClassIndexKey> getClassIndexKeys() {
+                return Collections.singleton(ClassIndexKey.supertype(typeName));
+            }
+        }
+
+        private static class AssignableFromTypeNamePredicate extends DescribedPredicate<JavaClass> {
+            private final String typeName;
+
+            AssignableFromTypeNamePredicate(String typeName) {
+                super("assignable from " + typeName);
+                this.typeName = typeName;
+            }
+
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.isAssignableFrom(typeName);
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return MODERATE;
+            }
         }
 
         private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> {
-            private final Set<PackageMatcher> packageMatchers;
+            private final PackageMatchers packageMatchers;
 
-            PackageMatchesPredicate(Set<PackageMatcher> packageMatchers, String description) {
+            PackageMatchesPredicate(PackageMatchers packageMatchers, String description) {
                 super(description);
                 this.packageMatchers = packageMatchers;
             }
 
             @Override
             public boolean apply(JavaClass input) {
-                for (PackageMatcher matcher : packageMatchers) {
-                    if (matcher.matches(input.getPackageName())) {
-                        return true;
-                    }
-                }
-                return false;
+                return packageMatchers.apply(input.getPackageName());
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return MODERATE;
             }
         }
 
-        private static class EquivalentToPredicate extends DescribedPredicate<JavaClass> {
+        private static class PackageTreesMatchesPredicate extends PackageMatchesPredicate implements CanBeAnsweredFromClassIndex {
+            private final Set<ClassIndexKey> packageTrees;
+
+            PackageTreesMatchesPredicate(PackageMatchers packageMatchers, Set<ClassIndexKey> packageTrees, String description) {
+                super(packageMatchers, description);
+                this.packageTrees = packageTrees;
+            }
+
+            @Override
+            public Set<ClassIndexKey> getClassIndexKeys() {
+                return packageTrees;
+            }
+        }
+
+        private static class EquivalentToPredicate extends DescribedPredicate<JavaClass> implements CanBeAnsweredFromClassIndex {
             private final Class<?> clazz;
 
             EquivalentToPredicate(Class<?> clazz) {
@@ -2553,6 +2703,16 @@ public class JavaClass
             public boolean apply(JavaClass input) {
                 return input.isEquivalentTo(clazz);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return CHEAP;
+            }
+
+            @Override
+            public Set<ClassIndexKey> getClassIndexKeys() {
+                return Collections.singleton(ClassIndexKey.name(clazz.getName()));
+            }
         }
 
         private static class ContainAnyMembersThatPredicate<T extends JavaMember> extends DescribedPredicate<JavaClass> {
@@ -2574,6 +2734,11 @@ public class JavaClass
                 }
                 return false;
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.max(EXPENSIVE, predicate.getEvaluationCost());
+            }
         }
     }
 
@@ -15,11 +15,15 @@
  */
 package com.tngtech.archunit.core.domain;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.tngtech.archunit.PublicAPI;
@@ -27,6 +31,7 @@ import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.ForwardingCollection;
 import com.tngtech.archunit.base.Guava;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.properties.CanOverrideDescription;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -37,6 +42,12 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
     private final ImmutableMap<String, JavaClass> classes;
     private final JavaPackage defaultPackage;
     private final String description;
+    private final Supplier<ClassIndex> index = Suppliers.memoize(new Supplier<ClassIndex>() {
+        @Override
+        public ClassIndex get() {
+            return new ClassIndex(classes.values().asList());
+        }
+    });
 
     private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes) {
         this(defaultPackage, classes, "classes");
@@ -49,16 +60,34 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
     }
 
     /**
+     * Predicates that can be answered from secondary indexes (e.g. {@link JavaClass.Predicates#resideInAPackage(String)}
+     * or {@link JavaClass.Predicates#assignableTo(String)}) are only evaluated against the candidates found in
+     * the respective index, instead of all classes.
+     *
      * @param predicate a {@link DescribedPredicate} to determine which classes match
      * @return {@link JavaClasses} matching the given predicate; the description will be adjusted according to the predicate's description
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses that(DescribedPredicate<? super JavaClass> predicate) {
-        Map<String, JavaClass> matchingElements = Guava.Maps.filterValues(classes, predicate);
+        Optional<BitSet> candidates = predicate.tryGetCandidatesFrom(index.get());
+        Map<String, JavaClass> matchingElements = candidates.isPresent()
+                ? filterCandidates(candidates.get(), predicate)
+                : Guava.Maps.filterValues(classes, predicate);
         String newDescription = String.format("%s that %s", description, predicate.getDescription());
         return new JavaClasses(defaultPackage, matchingElements, newDescription);
     }
 
+    private Map<String, JavaClass> filterCandidates(BitSet candidates, DescribedPredicate<? super JavaClass> predicate) {
+        Map<String, JavaClass> result = new LinkedHashMap<>();
+        for (int position = candidates.nextSetBit(0); position >= 0; position = candidates.nextSetBit(position + 1)) {
+            JavaClass candidate = index.get().get(position);
+            if (predicate.apply(candidate)) {
+                result.put(candidate.getName(), candidate);
+            }
+        }
+        return result;
+    }
+
     @Override
     public JavaClasses as(String description) {
         return new JavaClasses(defaultPackage, classes, description);
@@ -201,6 +230,7 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
             reverseDependenciesCreation.registerDependenciesOf(clazz, classDependencies);
         }
         reverseDependenciesCreation.finish(allClasses);
+        new TypeHierarchy.Creation(allClasses).finish();
         return new JavaClasses(defaultPackage, selectedClasses);
     }
 
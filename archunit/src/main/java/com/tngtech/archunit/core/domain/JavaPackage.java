@@ -16,17 +16,24 @@
 package com.tngtech.archunit.core.domain;
 
 import java.lang.annotation.Annotation;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import com.google.common.base.Splitter;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.SetMultimap;
@@ -57,7 +64,50 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
     private final Set<JavaClass> classes;
     private final Optional<JavaClass> packageInfo;
     private final Map<String, JavaPackage> subpackages;
+    private final Set<JavaPackage> subpackageSet;
     private Optional<JavaPackage> parent = Optional.empty();
+    private Set<JavaClass> allClasses;
+    private Set<JavaPackage> allSubpackages;
+    private final Supplier<Set<Dependency>> classDependenciesFromSelf = Suppliers.memoize(new Supplier<Set<Dependency>>() {
+        @Override
+        public Set<Dependency> get() {
+            ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
+            for (JavaClass javaClass : getAllClasses()) {
+                addAllNonSelfDependencies(result, javaClass.getDirectDependenciesFromSelf());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<Dependency>> classDependenciesToSelf = Suppliers.memoize(new Supplier<Set<Dependency>>() {
+        @Override
+        public Set<Dependency> get() {
+            ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
+            for (JavaClass javaClass : getAllClasses()) {
+                addAllNonSelfDependencies(result, javaClass.getDirectDependenciesToSelf());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<JavaPackage>> packageDependenciesFromSelf = Suppliers.memoize(new Supplier<Set<JavaPackage>>() {
+        @Override
+        public Set<JavaPackage> get() {
+            ImmutableSet.Builder<JavaPackage> result = ImmutableSet.builder();
+            for (Dependency dependency : getClassDependenciesFromSelf()) {
+                result.add(dependency.getTargetClass().getPackage());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<JavaPackage>> packageDependenciesToSelf = Suppliers.memoize(new Supplier<Set<JavaPackage>>() {
+        @Override
+        public Set<JavaPackage> get() {
+            ImmutableSet.Builder<JavaPackage> result = ImmutableSet.builder();
+            for (Dependency dependency : getClassDependenciesToSelf()) {
+                result.add(dependency.getOriginClass().getPackage());
+            }
+            return result.build();
+        }
+    });
 
     private JavaPackage(String name, Set<JavaClass> classes, Map<String, JavaPackage> subpackages) {
         this.name = checkNotNull(name);
@@ -65,6 +115,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
         this.classes = ImmutableSet.copyOf(classes);
         this.packageInfo = tryGetClassWithSimpleName("package-info");
         this.subpackages = ImmutableMap.copyOf(subpackages);
+        this.subpackageSet = ImmutableSet.copyOf(subpackages.values());
     }
 
     /**
@@ -220,11 +271,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaClass> getAllClasses() {
-        ImmutableSet.Builder<JavaClass> result = ImmutableSet.<JavaClass>builder().addAll(classes);
-        for (JavaPackage subpackage : getSubpackages()) {
-            result.addAll(subpackage.getAllClasses());
-        }
-        return result.build();
+        return allClasses;
     }
 
     /**
@@ -233,7 +280,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getSubpackages() {
-        return ImmutableSet.copyOf(subpackages.values());
+        return subpackageSet;
     }
 
     /**
@@ -252,12 +299,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getAllSubpackages() {
-        ImmutableSet.Builder<JavaPackage> result = ImmutableSet.builder();
-        for (JavaPackage subpackage : getSubpackages()) {
-            result.add(subpackage);
-            result.addAll(subpackage.getAllSubpackages());
-        }
-        return result.build();
+        return allSubpackages;
     }
 
     /**
@@ -424,11 +466,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getClassDependenciesFromSelf() {
-        ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
-        for (JavaClass javaClass : getAllClasses()) {
-            addAllNonSelfDependencies(result, javaClass.getDirectDependenciesFromSelf());
-        }
-        return result.build();
+        return classDependenciesFromSelf.get();
     }
 
     /**
@@ -437,11 +475,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getClassDependenciesToSelf() {
-        ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
-        for (JavaClass javaClass : getAllClasses()) {
-            addAllNonSelfDependencies(result, javaClass.getDirectDependenciesToSelf());
-        }
-        return result.build();
+        return classDependenciesToSelf.get();
     }
 
     private void addAllNonSelfDependencies(ImmutableSet.Builder<Dependency> result, Set<Dependency> dependencies) {
@@ -458,11 +492,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getPackageDependenciesFromSelf() {
-        ImmutableSet.Builder<JavaPackage> result = ImmutableSet.builder();
-        for (Dependency dependency : getClassDependenciesFromSelf()) {
-            result.add(dependency.getTargetClass().getPackage());
-        }
-        return result.build();
+        return packageDependenciesFromSelf.get();
     }
 
     /**
@@ -471,11 +501,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getPackageDependenciesToSelf() {
-        ImmutableSet.Builder<JavaPackage> result = ImmutableSet.builder();
-        for (Dependency dependency : getClassDependenciesToSelf()) {
-            result.add(dependency.getOriginClass().getPackage());
-        }
-        return result.build();
+        return packageDependenciesToSelf.get();
     }
 
     /**
@@ -535,7 +561,97 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
     }
 
     static JavaPackage from(Iterable<JavaClass> classes) {
-        return new Tree(classes).toJavaPackage();
+        JavaPackage defaultPackage = new Tree(classes).toJavaPackage();
+        new TreeOrder(defaultPackage).assignRanges();
+        return defaultPackage;
+    }
+
+    /**
+     * Lays out all classes and packages of a package tree in pre-order, i.e. every package is followed by its own
+     * classes and then by all its sub-packages (recursively). Thus the classes and sub-packages of any package
+     * form a contiguous range within this order and can be shared by all packages of the tree instead of
+     * being collected recursively on every call.
+     */
+    private static class TreeOrder {
+        private final JavaPackage root;
+        private final List<JavaClass> classes = new ArrayList<>();
+        private final List<JavaPackage> packages = new ArrayList<>();
+
+        TreeOrder(JavaPackage root) {
+            this.root = root;
+        }
+
+        void assignRanges() {
+            Map<JavaPackage, Range> ranges = new HashMap<>();
+            collect(root, ranges);
+
+            List<JavaClass> allClasses = ImmutableList.copyOf(classes);
+            List<JavaPackage> allPackages = ImmutableList.copyOf(packages);
+            Map<JavaClass, Integer> classPositions = new HashMap<>();
+            for (int i = 0; i < allClasses.size(); i++) {
+                classPositions.put(allClasses.get(i), i);
+            }
+            for (Map.Entry<JavaPackage, Range> entry : ranges.entrySet()) {
+                Range range = entry.getValue();
+                entry.getKey().allClasses = new ClassesInRange(allClasses, classPositions, range.firstClass, range.endOfClasses);
+                entry.getKey().allSubpackages = ImmutableSet.copyOf(allPackages.subList(range.ownPosition + 1, range.endOfPackages));
+            }
+        }
+
+        private void collect(JavaPackage javaPackage, Map<JavaPackage, Range> ranges) {
+            int firstClass = classes.size();
+            int ownPosition = packages.size();
+            packages.add(javaPackage);
+            classes.addAll(javaPackage.classes);
+            for (JavaPackage subpackage : javaPackage.getSubpackages()) {
+                collect(subpackage, ranges);
+            }
+            ranges.put(javaPackage, new Range(firstClass, classes.size(), ownPosition, packages.size()));
+        }
+
+        private static class Range {
+            private final int firstClass;
+            private final int endOfClasses;
+            private final int ownPosition;
+            private final int endOfPackages;
+
+            Range(int firstClass, int endOfClasses, int ownPosition, int endOfPackages) {
+                this.firstClass = firstClass;
+                this.endOfClasses = endOfClasses;
+                this.ownPosition = ownPosition;
+                this.endOfPackages = endOfPackages;
+            }
+        }
+    }
+
+    private static class ClassesInRange extends AbstractSet<JavaClass> {
+        private final List<JavaClass> classes;
+        private final Map<JavaClass, Integer> classPositions;
+        private final int from;
+        private final int to;
+
+        ClassesInRange(List<JavaClass> allClasses, Map<JavaClass, Integer> classPositions, int from, int to) {
+            this.classes = allClasses.subList(from, to);
+            this.classPositions = classPositions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            Integer position = classPositions.get(o);
+            return position != null && from <= position && position < to;
+        }
+
+        @Override
+        public Iterator<JavaClass> iterator() {
+            return classes.iterator();
+        }
+
+        @Override
+        public int size() {
+            return classes.size();
+        }
     }
 
     private static class Tree {
@@ -16,6 +16,8 @@
 package com.tngtech.archunit.core.domain;
 
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.Optional;
@@ -43,53 +45,36 @@ public final class SourceCodeLocation {
 
     @PublicAPI(usage = ACCESS)
     public static SourceCodeLocation of(JavaClass sourceClass) {
-        return new SourceCodeLocation(sourceClass, 0);
+        return of(sourceClass, 0);
     }
 
     @PublicAPI(usage = ACCESS)
     public static SourceCodeLocation of(JavaClass sourceClass, int lineNumber) {
-        return new SourceCodeLocation(sourceClass, lineNumber);
+        checkNotNull(sourceClass);
+        checkArgument(lineNumber >= 0, "Line number must be non-negative but was " + lineNumber);
+        return sourceClass.getSourceFile().getLocation(lineNumber);
     }
 
     private static String formatLocation(String sourceFileName, int lineNumber) {
         return "(" + sourceFileName + ":" + lineNumber + ")";
     }
 
-    private static String resolveSourceFileName(JavaClass sourceClass) {
-        Optional<String> recordedSourceFileName = sourceClass.getSource().isPresent()
-                ? sourceClass.getSource().get().getFileName()
-                : Optional.<String>empty();
-        return recordedSourceFileName.isPresent() ? recordedSourceFileName.get() : guessSourceFileName(sourceClass);
-    }
-
-    private static String guessSourceFileName(JavaClass location) {
-        while (location.getEnclosingClass().isPresent()) {
-            location = location.getEnclosingClass().get();
-        }
-        return location.getSimpleName() + ".java";
-    }
-
-    private final JavaClass sourceClass;
+    private final SourceFile sourceFile;
     private final int lineNumber;
-    private final String sourceFileName;
-    private final String description;
 
-    private SourceCodeLocation(JavaClass sourceClass, int lineNumber) {
-        this.sourceClass = checkNotNull(sourceClass);
+    private SourceCodeLocation(SourceFile sourceFile, int lineNumber) {
+        this.sourceFile = sourceFile;
         this.lineNumber = lineNumber;
-        checkArgument(lineNumber >= 0, "Line number must be non-negative but was " + lineNumber);
-        this.sourceFileName = resolveSourceFileName(sourceClass);
-        this.description = formatLocation(sourceFileName, lineNumber);
     }
 
     @PublicAPI(usage = ACCESS)
     public JavaClass getSourceClass() {
-        return sourceClass;
+        return sourceFile.sourceClass;
     }
 
     @PublicAPI(usage = ACCESS)
     public String getSourceFileName() {
-        return sourceFileName;
+        return sourceFile.getFileName();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -99,7 +84,7 @@ public final class SourceCodeLocation {
 
     @Override
     public int hashCode() {
-        return Objects.hash(sourceClass, lineNumber);
+        return Objects.hash(getSourceClass(), lineNumber);
     }
 
     @Override
@@ -111,7 +96,7 @@ public final class SourceCodeLocation {
             return false;
         }
         final SourceCodeLocation other = (SourceCodeLocation) obj;
-        return Objects.equals(this.sourceClass, other.sourceClass)
+        return Objects.equals(this.getSourceClass(), other.getSourceClass())
                 && Objects.equals(this.lineNumber, other.lineNumber);
     }
 
@@ -122,6 +107,53 @@ public final class SourceCodeLocation {
      */
     @Override
     public String toString() {
-        return description;
+        return formatLocation(getSourceFileName(), lineNumber);
+    }
+
+    /**
+     * The source file of a {@link JavaClass}. Resolves the file name only on demand and shares the
+     * {@link SourceCodeLocation} of each line number, since there are usually many accesses and dependencies
+     * originating from the same line, but only few of them are ever reported.
+     */
+    static final class SourceFile {
+        private final JavaClass sourceClass;
+        private final ConcurrentMap<Integer, SourceCodeLocation> locationsByLineNumber = new ConcurrentHashMap<>();
+        private volatile String fileName;
+
+        SourceFile(JavaClass sourceClass) {
+            this.sourceClass = checkNotNull(sourceClass);
+        }
+
+        SourceCodeLocation getLocation(int lineNumber) {
+            SourceCodeLocation location = locationsByLineNumber.get(lineNumber);
+            if (location != null) {
+                return location;
+            }
+            SourceCodeLocation newLocation = new SourceCodeLocation(this, lineNumber);
+            SourceCodeLocation existingLocation = locationsByLineNumber.putIfAbsent(lineNumber, newLocation);
+            return existingLocation != null ? existingLocation : newLocation;
+        }
+
+        String getFileName() {
+            String result = fileName;
+            if (result == null) {
+                result = fileName = resolveSourceFileName(sourceClass);
+            }
+            return result;
+        }
+
+        private static String resolveSourceFileName(JavaClass sourceClass) {
+            Optional<String> recordedSourceFileName = sourceClass.getSource().isPresent()
+                    ? sourceClass.getSource().get().getFileName()
+                    : Optional.<String>empty();
+            return recordedSourceFileName.isPresent() ? recordedSourceFileName.get() : guessSourceFileName(sourceClass);
+        }
+
+        private static String guessSourceFileName(JavaClass location) {
+            while (location.getEnclosingClass().isPresent()) {
+                location = location.getEnclosingClass().get();
+            }
+            return location.getSimpleName() + ".java";
+        }
     }
 }
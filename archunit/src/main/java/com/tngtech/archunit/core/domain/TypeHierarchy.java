@@ -0,0 +1,282 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ListMultimap;
+import com.tngtech.archunit.base.Optional;
+
+/**
+ * Precomputed index over the type hierarchy of all imported classes. Every class is labelled with the interval
+ * {@code [preOrderIndex, subtreeEnd)} of a pre-order traversal of the superclass forest, so "is superclass of"
+ * becomes an interval check. On top of that every type that is used as an interface is assigned a bit and every
+ * class carries the {@link BitSet} of all interfaces it transitively implements (classes that add no interfaces
+ * share the set of their superclass). Thus assignability checks are O(1) and all subclasses of a type are
+ * a union of ranges within the pre-order.
+ */
+final class TypeHierarchy {
+    private static final BitSet NO_INTERFACES = new BitSet();
+
+    private final Map<String, Integer> idsByName;
+    private final JavaClass[] classesInPreOrder;
+    private final int[] subtreeEnds;
+    private final int[] interfaceBits;
+    private final BitSet[] interfaceClosures;
+    private final int[][] topmostImplementorsByInterfaceBit;
+
+    private TypeHierarchy(Creation creation) {
+        idsByName = creation.idsByName;
+        classesInPreOrder = creation.classesInPreOrder;
+        subtreeEnds = creation.subtreeEnds;
+        interfaceBits = creation.interfaceBits;
+        interfaceClosures = creation.interfaceClosures;
+        topmostImplementorsByInterfaceBit = creation.topmostImplementorsByInterfaceBit;
+    }
+
+    boolean contains(JavaClass clazz) {
+        Optional<Integer> id = idOf(clazz.getName());
+        return id.isPresent() && classesInPreOrder[id.get()] == clazz;
+    }
+
+    /**
+     * @return true, if the class with the given name is part of the hierarchy of {@code clazz} (including {@code clazz} itself).
+     * {@code clazz} must be {@link #contains(JavaClass) contained} in this hierarchy.
+     */
+    boolean isAssignable(JavaClass clazz, String supertypeName) {
+        Optional<Integer> supertypeId = idOf(supertypeName);
+        return supertypeId.isPresent() && isAssignable(idOf(clazz.getName()).get(), supertypeId.get());
+    }
+
+    /**
+     * @return true, if {@code clazz} is part of the hierarchy of the class with the given name.
+     * {@code clazz} must be {@link #contains(JavaClass) contained} in this hierarchy.
+     */
+    boolean isAssignableFrom(JavaClass clazz, String subtypeName) {
+        Optional<Integer> subtypeId = idOf(subtypeName);
+        return subtypeId.isPresent() && isAssignable(subtypeId.get(), idOf(clazz.getName()).get());
+    }
+
+    private boolean isAssignable(int subtypeId, int supertypeId) {
+        if (supertypeId <= subtypeId && subtypeId < subtreeEnds[supertypeId]) {
+            return true;
+        }
+        int interfaceBit = interfaceBits[supertypeId];
+        return interfaceBit >= 0 && interfaceClosures[subtypeId].get(interfaceBit);
+    }
+
+    /**
+     * @return all classes assignable to {@code clazz} except for {@code clazz} itself.
+     * {@code clazz} must be {@link #contains(JavaClass) contained} in this hierarchy.
+     */
+    Set<JavaClass> getAllSubclasses(JavaClass clazz) {
+        int id = idOf(clazz.getName()).get();
+        ImmutableSet.Builder<JavaClass> result = ImmutableSet.builder();
+        addRange(result, id + 1, subtreeEnds[id]);
+        int interfaceBit = interfaceBits[id];
+        if (interfaceBit >= 0) {
+            for (int implementorId : topmostImplementorsByInterfaceBit[interfaceBit]) {
+                addRange(result, implementorId, subtreeEnds[implementorId]);
+            }
+        }
+        return result.build();
+    }
+
+    private void addRange(ImmutableSet.Builder<JavaClass> result, int fromInclusive, int toExclusive) {
+        result.addAll(Arrays.asList(classesInPreOrder).subList(fromInclusive, toExclusive));
+    }
+
+    private Optional<Integer> idOf(String typeName) {
+        return Optional.ofNullable(idsByName.get(typeName));
+    }
+
+    static final TypeHierarchy EMPTY = new TypeHierarchy(new Creation(Collections.<JavaClass>emptySet()));
+
+    static class Creation {
+        private final Map<String, Integer> idsByName = new HashMap<>();
+        private final JavaClass[] classesInPreOrder;
+        private final int[] subtreeEnds;
+        private final int[] interfaceBits;
+        private final BitSet[] interfaceClosures;
+        private final int[][] topmostImplementorsByInterfaceBit;
+
+        Creation(Collection<JavaClass> classes) {
+            Set<JavaClass> allTypes = collectTypesClosedUnderSupertypes(classes);
+            classesInPreOrder = new JavaClass[allTypes.size()];
+            subtreeEnds = new int[allTypes.size()];
+            labelSuperclassForestInPreOrder(allTypes);
+
+            interfaceBits = new int[classesInPreOrder.length];
+            int numberOfInterfaces = assignInterfaceBits();
+            interfaceClosures = new BitSet[classesInPreOrder.length];
+            for (int id = 0; id < classesInPreOrder.length; id++) {
+                computeInterfaceClosure(id);
+            }
+            topmostImplementorsByInterfaceBit = collectTopmostImplementors(numberOfInterfaces);
+        }
+
+        private static Set<JavaClass> collectTypesClosedUnderSupertypes(Collection<JavaClass> classes) {
+            Set<JavaClass> result = new LinkedHashSet<>(classes);
+            Deque<JavaClass> toProcess = new ArrayDeque<>(classes);
+            while (!toProcess.isEmpty()) {
+                JavaClass current = toProcess.poll();
+                for (JavaClass supertype : getDirectSupertypes(current)) {
+                    if (result.add(supertype)) {
+                        toProcess.add(supertype);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static List<JavaClass> getDirectSupertypes(JavaClass clazz) {
+            List<JavaClass> result = new ArrayList<>(clazz.getRawInterfaces());
+            result.addAll(clazz.getRawSuperclass().asSet());
+            return result;
+        }
+
+        private void labelSuperclassForestInPreOrder(Set<JavaClass> allTypes) {
+            ListMultimap<JavaClass, JavaClass> subclassesBySuperclass = ArrayListMultimap.create();
+            List<JavaClass> roots = new ArrayList<>();
+            for (JavaClass type : allTypes) {
+                Optional<JavaClass> superclass = type.getRawSuperclass();
+                if (superclass.isPresent()) {
+                    subclassesBySuperclass.put(superclass.get(), type);
+                } else {
+                    roots.add(type);
+                }
+            }
+
+            int nextId = 0;
+            Deque<Integer> openSubtrees = new ArrayDeque<>();
+            Deque<Iterator<JavaClass>> remainingSubclasses = new ArrayDeque<>();
+            for (JavaClass root : roots) {
+                openSubtrees.push(label(root, nextId++));
+                remainingSubclasses.push(subclassesBySuperclass.get(root).iterator());
+                while (!openSubtrees.isEmpty()) {
+                    Iterator<JavaClass> subclasses = remainingSubclasses.peek();
+                    if (subclasses.hasNext()) {
+                        JavaClass subclass = subclasses.next();
+                        openSubtrees.push(label(subclass, nextId++));
+                        remainingSubclasses.push(subclassesBySuperclass.get(subclass).iterator());
+                    } else {
+                        subtreeEnds[openSubtrees.pop()] = nextId;
+                        remainingSubclasses.pop();
+                    }
+                }
+            }
+        }
+
+        private int label(JavaClass clazz, int id) {
+            classesInPreOrder[id] = clazz;
+            idsByName.put(clazz.getName(), id);
+            return id;
+        }
+
+        private int assignInterfaceBits() {
+            Arrays.fill(interfaceBits, -1);
+            int nextBit = 0;
+            for (int id = 0; id < classesInPreOrder.length; id++) {
+                if (classesInPreOrder[id].isInterface()) {
+                    interfaceBits[id] = nextBit++;
+                }
+            }
+            // types resolved as stubs do not know whether they are interfaces, so we also consider their usage
+            for (JavaClass clazz : classesInPreOrder) {
+                for (JavaClass rawInterface : clazz.getRawInterfaces()) {
+                    int interfaceId = idsByName.get(rawInterface.getName());
+                    if (interfaceBits[interfaceId] < 0) {
+                        interfaceBits[interfaceId] = nextBit++;
+                    }
+                }
+            }
+            return nextBit;
+        }
+
+        private BitSet computeInterfaceClosure(int id) {
+            if (interfaceClosures[id] != null) {
+                return interfaceClosures[id];
+            }
+
+            JavaClass clazz = classesInPreOrder[id];
+            Optional<JavaClass> superclass = clazz.getRawSuperclass();
+            BitSet superclassClosure = superclass.isPresent()
+                    ? computeInterfaceClosure(idsByName.get(superclass.get().getName()))
+                    : NO_INTERFACES;
+
+            BitSet result = superclassClosure;
+            if (!clazz.getRawInterfaces().isEmpty()) {
+                result = (BitSet) superclassClosure.clone();
+                for (JavaClass rawInterface : clazz.getRawInterfaces()) {
+                    int interfaceId = idsByName.get(rawInterface.getName());
+                    result.set(interfaceBits[interfaceId]);
+                    result.or(computeInterfaceClosure(interfaceId));
+                }
+            }
+            interfaceClosures[id] = result;
+            return result;
+        }
+
+        /**
+         * Interface closures are inherited along the superclass forest. Thus all classes implementing some interface
+         * are exactly the subtrees of those implementors, whose superclass does not implement the interface yet.
+         */
+        private int[][] collectTopmostImplementors(int numberOfInterfaces) {
+            ListMultimap<Integer, Integer> topmostImplementors = ArrayListMultimap.create();
+            for (int id = 0; id < classesInPreOrder.length; id++) {
+                Optional<JavaClass> superclass = classesInPreOrder[id].getRawSuperclass();
+                BitSet addedInterfaces = (BitSet) interfaceClosures[id].clone();
+                if (superclass.isPresent()) {
+                    addedInterfaces.andNot(interfaceClosures[idsByName.get(superclass.get().getName())]);
+                }
+                for (int bit = addedInterfaces.nextSetBit(0); bit >= 0; bit = addedInterfaces.nextSetBit(bit + 1)) {
+                    topmostImplementors.put(bit, id);
+                }
+            }
+
+            int[][] result = new int[numberOfInterfaces][];
+            for (int bit = 0; bit < numberOfInterfaces; bit++) {
+                List<Integer> implementors = topmostImplementors.get(bit);
+                result[bit] = new int[implementors.size()];
+                for (int i = 0; i < implementors.size(); i++) {
+                    result[bit][i] = implementors.get(i);
+                }
+            }
+            return result;
+        }
+
+        void finish() {
+            TypeHierarchy typeHierarchy = new TypeHierarchy(this);
+            for (JavaClass clazz : classesInPreOrder) {
+                clazz.setTypeHierarchy(typeHierarchy);
+            }
+        }
+    }
+}
@@ -19,20 +19,23 @@ import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ArchUnitException.InvalidSyntaxUsageException;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.EvaluationCost;
 import com.tngtech.archunit.base.Function;
+import com.tngtech.archunit.core.domain.CanBeAnsweredFromClassIndex;
+import com.tngtech.archunit.core.domain.ClassIndexKey;
 import com.tngtech.archunit.core.domain.JavaAnnotation;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
-import static com.tngtech.archunit.base.DescribedPredicate.equalTo;
+import static com.tngtech.archunit.base.EvaluationCost.EXPENSIVE;
+import static com.tngtech.archunit.base.EvaluationCost.MODERATE;
 import static com.tngtech.archunit.core.domain.Formatters.ensureSimpleName;
-import static com.tngtech.archunit.core.domain.properties.HasName.Functions.GET_NAME;
-import static com.tngtech.archunit.core.domain.properties.HasType.Functions.GET_RAW_TYPE;
 
 public interface CanBeAnnotated {
     @PublicAPI(usage = ACCESS)
@@ -80,8 +83,7 @@ public interface CanBeAnnotated {
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<CanBeAnnotated> annotatedWith(final String annotationTypeName) {
-            DescribedPredicate<HasType> typeNameMatches = GET_RAW_TYPE.then(GET_NAME).is(equalTo(annotationTypeName));
-            return annotatedWith(typeNameMatches.as("@" + ensureSimpleName(annotationTypeName)));
+            return new AnnotatedWithTypeNamePredicate(annotationTypeName);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -101,6 +103,35 @@ public interface CanBeAnnotated {
             public boolean apply(CanBeAnnotated input) {
                 return input.isAnnotatedWith(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.max(MODERATE, predicate.getEvaluationCost());
+            }
+        }
+
+        private static class AnnotatedWithTypeNamePredicate extends DescribedPredicate<CanBeAnnotated> implements CanBeAnsweredFromClassIndex {
+            private final String annotationTypeName;
+
+            AnnotatedWithTypeNamePredicate(String annotationTypeName) {
+                super("annotated with @" + ensureSimpleName(annotationTypeName));
+                this.annotationTypeName = annotationTypeName;
+            }
+
+            @Override
+            public boolean apply(CanBeAnnotated input) {
+                return input.isAnnotatedWith(annotationTypeName);
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return MODERATE;
+            }
+
+            @Override
+            public Set<ClassIndexKey> getClassIndexKeys() {
+                return Collections.singleton(ClassIndexKey.annotation(annotationTypeName));
+            }
         }
 
         @PublicAPI(usage = ACCESS)
@@ -112,8 +143,7 @@ public interface CanBeAnnotated {
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<CanBeAnnotated> metaAnnotatedWith(final String annotationTypeName) {
-            DescribedPredicate<HasType> typeNameMatches = GET_RAW_TYPE.then(GET_NAME).is(equalTo(annotationTypeName));
-            return metaAnnotatedWith(typeNameMatches.as("@" + ensureSimpleName(annotationTypeName)));
+            return new MetaAnnotatedWithTypeNamePredicate(annotationTypeName);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -133,6 +163,35 @@ public interface CanBeAnnotated {
             public boolean apply(CanBeAnnotated input) {
                 return input.isMetaAnnotatedWith(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.max(EXPENSIVE, predicate.getEvaluationCost());
+            }
+        }
+
+        private static class MetaAnnotatedWithTypeNamePredicate extends DescribedPredicate<CanBeAnnotated> implements CanBeAnsweredFromClassIndex {
+            private final String annotationTypeName;
+
+            MetaAnnotatedWithTypeNamePredicate(String annotationTypeName) {
+                super("meta-annotated with @" + ensureSimpleName(annotationTypeName));
+                this.annotationTypeName = annotationTypeName;
+            }
+
+            @Override
+            public boolean apply(CanBeAnnotated input) {
+                return input.isMetaAnnotatedWith(annotationTypeName);
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return MODERATE;
+            }
+
+            @Override
+            public Set<ClassIndexKey> getClassIndexKeys() {
+                return Collections.singleton(ClassIndexKey.metaAnnotation(annotationTypeName));
+            }
         }
     }
 
@@ -15,13 +15,18 @@
  */
 package com.tngtech.archunit.core.domain.properties;
 
+import java.util.Collections;
 import java.util.Set;
 
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.EvaluationCost;
+import com.tngtech.archunit.core.domain.CanBeAnsweredFromClassIndex;
+import com.tngtech.archunit.core.domain.ClassIndexKey;
 import com.tngtech.archunit.core.domain.JavaModifier;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.base.EvaluationCost.CHEAP;
 
 @PublicAPI(usage = ACCESS)
 public interface HasModifiers {
@@ -37,7 +42,7 @@ public interface HasModifiers {
             return new ModifierPredicate(modifier);
         }
 
-        private static class ModifierPredicate extends DescribedPredicate<HasModifiers> {
+        private static class ModifierPredicate extends DescribedPredicate<HasModifiers> implements CanBeAnsweredFromClassIndex {
             private final JavaModifier modifier;
 
             ModifierPredicate(JavaModifier modifier) {
@@ -49,6 +54,16 @@ public interface HasModifiers {
             public boolean apply(HasModifiers input) {
                 return input.getModifiers().contains(modifier);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return CHEAP;
+            }
+
+            @Override
+            public Set<ClassIndexKey> getClassIndexKeys() {
+                return Collections.singleton(ClassIndexKey.modifier(modifier));
+            }
         }
     }
 }
@@ -15,15 +15,22 @@
  */
 package com.tngtech.archunit.core.domain.properties;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ChainableFunction;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.EvaluationCost;
+import com.tngtech.archunit.core.domain.CanBeAnsweredFromClassIndex;
+import com.tngtech.archunit.core.domain.ClassIndexKey;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.base.EvaluationCost.CHEAP;
+import static com.tngtech.archunit.base.EvaluationCost.MODERATE;
 import static com.tngtech.archunit.core.domain.properties.HasName.Utils.namesOf;
 
 public interface HasName {
@@ -66,6 +73,11 @@ public interface HasName {
                 public boolean apply(HasName.AndFullName input) {
                     return input.getFullName().equals(fullName);
                 }
+
+                @Override
+                public EvaluationCost getEvaluationCost() {
+                    return CHEAP;
+                }
             }
 
             private static class FullNameMatchingPredicate extends DescribedPredicate<HasName.AndFullName> {
@@ -80,6 +92,11 @@ public interface HasName {
                 public boolean apply(HasName.AndFullName input) {
                     return pattern.matcher(input.getFullName()).matches();
                 }
+
+                @Override
+                public EvaluationCost getEvaluationCost() {
+                    return MODERATE;
+                }
             }
         }
 
@@ -116,7 +133,9 @@ public interface HasName {
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<HasName> nameStartingWith(final String prefix) {
-            return new NameStartingWithPredicate(prefix);
+            return prefix.lastIndexOf('.') > 0
+                    ? new QualifiedNameStartingWithPredicate(prefix)
+                    : new NameStartingWithPredicate(prefix);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -129,7 +148,7 @@ public interface HasName {
             return new NameEndingWithPredicate(postfix);
         }
 
-        private static class NameEqualsPredicate extends DescribedPredicate<HasName> {
+        private static class NameEqualsPredicate extends DescribedPredicate<HasName> implements CanBeAnsweredFromClassIndex {
             private final String name;
 
             NameEqualsPredicate(String name) {
@@ -141,6 +160,16 @@ public interface HasName {
             public boolean apply(HasName input) {
                 return input.getName().equals(name);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return CHEAP;
+            }
+
+            @Override
+            public Set<ClassIndexKey> getClassIndexKeys() {
+                return Collections.singleton(ClassIndexKey.name(name));
+            }
         }
 
         private static class NameMatchingPredicate extends DescribedPredicate<HasName> {
@@ -155,6 +184,11 @@ public interface HasName {
             public boolean apply(HasName input) {
                 return pattern.matcher(input.getName()).matches();
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return MODERATE;
+            }
         }
 
         private static class NameStartingWithPredicate extends DescribedPredicate<HasName> {
@@ -170,6 +204,28 @@ public interface HasName {
                 return input.getName().startsWith(prefix);
             }
 
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return CHEAP;
+            }
+
+        }
+
+        /**
+         * A class name starting with {@code some.pkg.Prefix} can only belong to a class residing within the package tree {@code some.pkg}
+         */
+        private static class QualifiedNameStartingWithPredicate extends NameStartingWithPredicate implements CanBeAnsweredFromClassIndex {
+            private final String packageTree;
+
+            QualifiedNameStartingWithPredicate(String prefix) {
+                super(prefix);
+                this.packageTree = prefix.substring(0, prefix.lastIndexOf('.'));
+            }
+
+            @Override
+            public Set<ClassIndexKey> getClassIndexKeys() {
+                return Collections.singleton(ClassIndexKey.packageTree(packageTree));
+            }
         }
 
         private static class NameContainingPredicate extends DescribedPredicate<HasName> {
@@ -184,6 +240,11 @@ public interface HasName {
             public boolean apply(HasName input) {
                 return input.getName().contains(infix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return CHEAP;
+            }
         }
 
         private static class NameEndingWithPredicate extends DescribedPredicate<HasName> {
@@ -198,6 +259,11 @@ public interface HasName {
             public boolean apply(HasName input) {
                 return input.getName().endsWith(suffix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return CHEAP;
+            }
         }
     }
 
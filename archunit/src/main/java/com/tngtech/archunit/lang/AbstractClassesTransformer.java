@@ -19,6 +19,7 @@ import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Guava;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
@@ -48,11 +49,19 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
             @Override
             public Iterable<T> doTransform(JavaClasses collection) {
                 Iterable<T> transformed = AbstractClassesTransformer.this.doTransform(collection);
-                return Guava.Iterables.filter(transformed, predicate);
+                return transformed instanceof JavaClasses
+                        ? filterUsingIndexes((JavaClasses) transformed, predicate)
+                        : Guava.Iterables.filter(transformed, predicate);
             }
         };
     }
 
+    // if the transformed objects are JavaClasses, then T must be a supertype of JavaClass
+    @SuppressWarnings("unchecked")
+    private Iterable<T> filterUsingIndexes(JavaClasses classes, DescribedPredicate<? super T> predicate) {
+        return (Iterable<T>) classes.that((DescribedPredicate<? super JavaClass>) predicate);
+    }
+
     @Override
     public final String getDescription() {
         return description;
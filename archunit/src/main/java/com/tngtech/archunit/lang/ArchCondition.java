@@ -25,6 +25,7 @@ import java.util.TreeSet;
 import com.google.common.base.Joiner;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
@@ -58,6 +59,33 @@ public abstract class ArchCondition<T> {
     public void finish(ConditionEvents events) {
     }
 
+    /**
+     * Can be overridden to declare, that this condition does not support checking several items concurrently.<br>
+     * If parallel evaluation of rules is enabled (i.e. {@code archRule.evaluation.parallel=true} is configured
+     * within {@value com.tngtech.archunit.ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}),
+     * ArchUnit might call {@link #check(Object, ConditionEvents)} from several threads at the same time.
+     * A condition that accumulates state over all checked items, e.g. to evaluate it within
+     * {@link #finish(ConditionEvents)}, must thus return {@code false}.
+     *
+     * @return true, if {@link #check(Object, ConditionEvents)} may be called concurrently for different items
+     */
+    public boolean isParallelizable() {
+        return true;
+    }
+
+    /**
+     * Declares, if this condition might look at the allowed events of the {@link ConditionEvents} ArchUnit passes to
+     * {@link #check(Object, ConditionEvents)} and {@link #finish(ConditionEvents)}. If not, ArchUnit will only count
+     * allowed events while evaluating a rule with this condition, since only violations are ever reported.
+     * All built-in conditions return {@code false}.
+     *
+     * @return true, if this condition might need the allowed events added to the {@link ConditionEvents} of a rule
+     */
+    @Internal
+    public boolean requiresAllowedEvents() {
+        return true;
+    }
+
     public ArchCondition<T> and(ArchCondition<? super T> condition) {
         return new AndCondition<>(this, condition.<T>forSubtype());
     }
@@ -86,6 +114,16 @@ public abstract class ArchCondition<T> {
             public void finish(ConditionEvents events) {
                 ArchCondition.this.finish(events);
             }
+
+            @Override
+            public boolean isParallelizable() {
+                return ArchCondition.this.isParallelizable();
+            }
+
+            @Override
+            public boolean requiresAllowedEvents() {
+                return ArchCondition.this.requiresAllowedEvents();
+            }
         };
     }
 
@@ -137,6 +175,26 @@ public abstract class ArchCondition<T> {
             }
         }
 
+        @Override
+        public boolean isParallelizable() {
+            for (ArchCondition<T> condition : conditions) {
+                if (!condition.isParallelizable()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            for (ArchCondition<T> condition : conditions) {
+                if (condition.requiresAllowedEvents()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         List<ConditionWithEvents<T>> evaluateConditions(T item) {
             List<ConditionWithEvents<T>> evaluate = new ArrayList<>();
             for (ArchCondition<T> condition : conditions) {
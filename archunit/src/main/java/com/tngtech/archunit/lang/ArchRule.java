@@ -18,6 +18,7 @@ package com.tngtech.archunit.lang;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -36,7 +37,11 @@ import com.tngtech.archunit.lang.syntax.elements.ClassesShould;
 import com.tngtech.archunit.lang.syntax.elements.ClassesThat;
 import com.tngtech.archunit.lang.syntax.elements.GivenClasses;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.io.Resources.readLines;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -65,6 +70,48 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
     @PublicAPI(usage = ACCESS)
     ArchRule because(String reason);
 
+    /**
+     * Stops the evaluation of this rule as soon as the given number of violations has been found and reports at most
+     * this number of violations. E.g. {@code stopAfterViolations(1)} will make the rule fail fast on the first violation.
+     * The {@link EvaluationResult} will then state, that the rule has been violated at least this number of times.
+     * <br><br>
+     * Conditions that can only be evaluated after all objects have been checked
+     * (compare {@link ArchCondition#isParallelizable()}) will still check all objects, but only report
+     * the given number of violations. For rules composed of several rules (e.g. a {@link CompositeArchRule})
+     * the limit applies to each of the composed rules.
+     * <br><br>
+     * A limit for all rules can be configured via {@code archRule.evaluation.maxViolations=xxx} within
+     * {@value com.tngtech.archunit.ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}.
+     *
+     * @param maxNumberOfViolations The number of violations after which the evaluation of this rule should be stopped
+     * @return A rule that stops its evaluation after the given number of violations
+     */
+    @PublicAPI(usage = ACCESS)
+    ArchRule stopAfterViolations(int maxNumberOfViolations);
+
+    /**
+     * Passes every violation to the given {@link ViolationHandler} as soon as the condition of this rule reports it,
+     * instead of collecting all violations until the evaluation has finished. This allows to process huge numbers
+     * of violations (e.g. write them to a file or simply count them) with bounded memory and to see violations while
+     * the rule is still evaluated. Like for {@link EvaluationResult#handleViolations(ViolationHandler)} only violations
+     * by objects matching the reified type parameter of the {@link ViolationHandler} are passed on.
+     * <br><br>
+     * Streamed violations are not retained within the {@link EvaluationResult}. Instead, the result contains a single
+     * violation stating how many violations have been streamed, so the rule will still fail. The objects of a rule
+     * streaming its violations are always checked sequentially, thus the {@link ViolationHandler} does not need to be thread-safe.
+     * For rules composed of several rules (e.g. a {@link CompositeArchRule}) the violations of each of the composed rules are streamed.
+     * <br><br>
+     * Note that a {@link com.tngtech.archunit.library.freeze.FreezingArchRule FreezingArchRule} is an exception to this,
+     * since it can only tell which violations are new after its underlying rule has been evaluated completely.
+     * It passes its new violations to the {@link ViolationHandler} after the evaluation and also retains them
+     * within the {@link EvaluationResult}.
+     *
+     * @param violationHandler The handler to pass each violation to as soon as it is reported
+     * @return A rule that passes its violations to the given {@link ViolationHandler} during the evaluation
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    ArchRule streamViolationsTo(ViolationHandler<?> violationHandler);
+
     @PublicAPI(usage = ACCESS)
     final class Assertions {
         private static final ArchUnitExtensions extensions = new ArchUnitExtensions();
@@ -77,22 +124,31 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
         @PublicAPI(usage = ACCESS)
         public static void check(ArchRule rule, JavaClasses classes) {
+            assertNoViolation(evaluateAndDispatch(rule, classes));
+        }
+
+        static EvaluationResult evaluateAndDispatch(ArchRule rule, JavaClasses classes) {
             EvaluationResult result = rule.evaluate(classes);
             extensions.dispatch(new SimpleEvaluatedRule(rule, classes, result));
-            assertNoViolation(result);
+            return result;
         }
 
         @PublicAPI(usage = ACCESS)
         public static void assertNoViolation(EvaluationResult result) {
+            FailureReport report = getReportOfViolationsNotIgnored(result);
+            if (!report.isEmpty()) {
+                throw new AssertionError(report.toString());
+            }
+        }
+
+        static FailureReport getReportOfViolationsNotIgnored(EvaluationResult result) {
             FailureReport report = result.getFailureReport();
 
             Set<Pattern> patterns = readPatternsFrom(ARCHUNIT_IGNORE_PATTERNS_FILE_NAME);
             if (!patterns.isEmpty()) {
                 report = report.filter(notMatchedByAny(patterns));
             }
-            if (!report.isEmpty()) {
-                throw new AssertionError(report.toString());
-            }
+            return report;
         }
 
         private static Predicate<String> notMatchedByAny(final Set<Pattern> patterns) {
@@ -163,7 +219,8 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
     @Internal
     class Factory {
         public static <T> ArchRule create(final ClassesTransformer<T> classesTransformer, final ArchCondition<T> condition, final Priority priority) {
-            return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.<String>empty());
+            return new SimpleArchRule<>(priority, classesTransformer, condition,
+                    Optional.<String>empty(), Optional.<Integer>empty(), Optional.<ViolationHandler<?>>empty());
         }
 
         public static ArchRule withBecause(ArchRule rule, String reason) {
@@ -179,18 +236,35 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
             private final ClassesTransformer<T> classesTransformer;
             private final ArchCondition<T> condition;
             private final Optional<String> overriddenDescription;
+            private final Optional<Integer> maxNumberOfViolations;
+            private final Optional<ViolationHandler<?>> violationStream;
 
             private SimpleArchRule(Priority priority, ClassesTransformer<T> classesTransformer, ArchCondition<T> condition,
-                    Optional<String> overriddenDescription) {
+                    Optional<String> overriddenDescription, Optional<Integer> maxNumberOfViolations, Optional<ViolationHandler<?>> violationStream) {
                 this.priority = priority;
                 this.classesTransformer = classesTransformer;
                 this.condition = condition;
                 this.overriddenDescription = overriddenDescription;
+                this.maxNumberOfViolations = maxNumberOfViolations;
+                this.violationStream = violationStream;
             }
 
             @Override
             public ArchRule as(String newDescription) {
-                return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.of(newDescription));
+                return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.of(newDescription), maxNumberOfViolations, violationStream);
+            }
+
+            @Override
+            public ArchRule stopAfterViolations(int maxNumberOfViolations) {
+                checkArgument(maxNumberOfViolations > 0, "Maximum number of violations must be positive, but was %s", maxNumberOfViolations);
+                return new SimpleArchRule<>(priority, classesTransformer, condition, overriddenDescription,
+                        Optional.of(maxNumberOfViolations), violationStream);
+            }
+
+            @Override
+            public ArchRule streamViolationsTo(ViolationHandler<?> violationHandler) {
+                return new SimpleArchRule<>(priority, classesTransformer, condition, overriddenDescription,
+                        maxNumberOfViolations, Optional.<ViolationHandler<?>>of(checkNotNull(violationHandler)));
             }
 
             @Override
@@ -205,14 +279,36 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
             @Override
             public EvaluationResult evaluate(JavaClasses classes) {
+                EvaluationConfiguration configuration = new EvaluationConfiguration();
+                ViolationLimit violationLimit = new ViolationLimit(
+                        maxNumberOfViolations.orElse(configuration.getMaxNumberOfViolations()), condition.isParallelizable());
+
+                EvaluationProfiler profiler = EvaluationProfiler.start(configuration.isProfilingEnabled());
                 Iterable<T> allObjects = classesTransformer.transform(classes);
+                profiler.lap();
                 condition.init(allObjects);
-                ConditionEvents events = new ConditionEvents();
-                for (T object : allObjects) {
-                    condition.check(object, events);
-                }
+                profiler.lap();
+                ConditionEvents events = checkAll(allObjects, configuration, violationLimit);
+                profiler.lap();
                 condition.finish(events);
-                return new EvaluationResult(this, events, priority);
+                profiler.lap();
+                violationLimit.applyTo(events);
+                events.addSummaryOfStreamedViolations();
+                List<EvaluationProfile> profiles = profiler.createProfiles(getDescription(), condition.getDescription(), allObjects, events);
+                return new EvaluationResult(this, events, priority, profiles);
+            }
+
+            private ConditionEvents checkAll(Iterable<T> allObjects, EvaluationConfiguration configuration, ViolationLimit violationLimit) {
+                boolean retainAllowedEvents = configuration.isRetainAllowedEvents() || condition.requiresAllowedEvents();
+                if (violationStream.isPresent()) {
+                    ConditionEvents events = ConditionEvents.create(retainAllowedEvents, violationStream.get());
+                    return ParallelConditionCheck.checkSequentially(condition, allObjects, events, violationLimit);
+                }
+                if (configuration.isParallelEvaluationEnabled() && condition.isParallelizable()) {
+                    return ParallelConditionCheck.checkInParallel(
+                            condition, newArrayList(allObjects), retainAllowedEvents, violationLimit);
+                }
+                return ParallelConditionCheck.checkSequentially(condition, allObjects, retainAllowedEvents, violationLimit);
             }
 
             @Override
@@ -270,5 +366,43 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
                 return String.format("because '%s'", reason);
             }
         }
+
+        @Internal
+        final class StopAfterViolations implements Transformation {
+            private final int maxNumberOfViolations;
+
+            public StopAfterViolations(int maxNumberOfViolations) {
+                this.maxNumberOfViolations = maxNumberOfViolations;
+            }
+
+            @Override
+            public ArchRule apply(ArchRule rule) {
+                return rule.stopAfterViolations(maxNumberOfViolations);
+            }
+
+            @Override
+            public String toString() {
+                return String.format("stop after %d violations", maxNumberOfViolations);
+            }
+        }
+
+        @Internal
+        final class StreamViolationsTo implements Transformation {
+            private final ViolationHandler<?> violationHandler;
+
+            public StreamViolationsTo(ViolationHandler<?> violationHandler) {
+                this.violationHandler = violationHandler;
+            }
+
+            @Override
+            public ArchRule apply(ArchRule rule) {
+                return rule.streamViolationsTo(violationHandler);
+            }
+
+            @Override
+            public String toString() {
+                return String.format("stream violations to %s", violationHandler);
+            }
+        }
     }
 }
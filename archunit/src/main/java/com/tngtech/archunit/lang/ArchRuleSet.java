@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.lang.ArchRule.Assertions.evaluateAndDispatch;
+import static com.tngtech.archunit.lang.ArchRule.Assertions.getReportOfViolationsNotIgnored;
+import static java.lang.System.lineSeparator;
+
+/**
+ * A set of {@link ArchRule ArchRules} to be evaluated together against the same {@link JavaClasses}.
+ * In contrast to a {@link CompositeArchRule}, every rule keeps its own {@link EvaluationResult}.
+ * <br><br>
+ * All rules share the structures derived from the {@link JavaClasses}, e.g. the members of all classes
+ * for rules about members or the indexes used to answer common predicates like
+ * {@link com.tngtech.archunit.core.domain.JavaClass.Predicates#resideInAPackage(String) resideInAPackage(..)},
+ * so these only have to be computed once for the whole set of rules.
+ * <br><br>
+ * Example:
+ * <pre><code>
+ * ArchRuleSet.of(firstRule, secondRule, thirdRule).check(importedClasses);
+ * </code></pre>
+ * will evaluate all three rules and report the violations of all failing rules together.
+ */
+@PublicAPI(usage = ACCESS)
+public final class ArchRuleSet implements Iterable<ArchRule> {
+    private final List<ArchRule> rules;
+
+    private ArchRuleSet(List<ArchRule> rules) {
+        this.rules = rules;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public static ArchRuleSet of(ArchRule... rules) {
+        return of(Arrays.asList(rules));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public static ArchRuleSet of(Iterable<? extends ArchRule> rules) {
+        return new ArchRuleSet(ImmutableList.copyOf(rules));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public ArchRuleSet and(ArchRule... rules) {
+        return new ArchRuleSet(ImmutableList.<ArchRule>builder().addAll(this.rules).add(rules).build());
+    }
+
+    /**
+     * @param classes The {@link JavaClasses} to evaluate all rules against
+     * @return One {@link EvaluationResult} per rule, in the order the rules have been added to this {@link ArchRuleSet}
+     */
+    @PublicAPI(usage = ACCESS)
+    public List<EvaluationResult> evaluate(JavaClasses classes) {
+        List<EvaluationResult> results = new ArrayList<>(rules.size());
+        for (ArchRule rule : rules) {
+            results.add(rule.evaluate(classes));
+        }
+        return results;
+    }
+
+    /**
+     * Evaluates all rules against the given {@link JavaClasses} like {@link ArchRule#check(JavaClasses)},
+     * but does not stop at the first failing rule. Instead, the violations of all failing rules are reported
+     * together by a single {@link AssertionError}.
+     *
+     * @param classes The {@link JavaClasses} to check all rules against
+     */
+    @PublicAPI(usage = ACCESS)
+    public void check(JavaClasses classes) {
+        List<String> failureReports = new ArrayList<>();
+        for (ArchRule rule : rules) {
+            FailureReport report = getReportOfViolationsNotIgnored(evaluateAndDispatch(rule, classes));
+            if (!report.isEmpty()) {
+                failureReports.add(report.toString());
+            }
+        }
+        if (!failureReports.isEmpty()) {
+            throw new AssertionError(Joiner.on(lineSeparator() + lineSeparator()).join(failureReports));
+        }
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public Iterator<ArchRule> iterator() {
+        return rules.iterator();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + rules;
+    }
+}
@@ -15,14 +15,19 @@
  */
 package com.tngtech.archunit.lang;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.ArchUnitForkJoinPool;
 import com.tngtech.archunit.core.domain.JavaClasses;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.lang.ArchRule.Factory.createBecauseDescription;
 import static com.tngtech.archunit.lang.Priority.MEDIUM;
@@ -32,11 +37,13 @@ public final class CompositeArchRule implements ArchRule {
     private final Priority priority;
     private final List<ArchRule> rules;
     private final String description;
+    private final boolean parallel;
 
-    private CompositeArchRule(Priority priority, List<ArchRule> rules, String description) {
+    private CompositeArchRule(Priority priority, List<ArchRule> rules, String description, boolean parallel) {
         this.priority = priority;
         this.rules = checkNotNull(rules);
         this.description = checkNotNull(description);
+        this.parallel = parallel;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -67,7 +74,7 @@ public final class CompositeArchRule implements ArchRule {
     public CompositeArchRule and(ArchRule rule) {
         List<ArchRule> newRules = ImmutableList.<ArchRule>builder().addAll(rules).add(rule).build();
         String newDescription = description + " and " + rule.getDescription();
-        return new CompositeArchRule(priority, newRules, newDescription);
+        return new CompositeArchRule(priority, newRules, newDescription, parallel);
     }
 
     @Override
@@ -79,13 +86,67 @@ public final class CompositeArchRule implements ArchRule {
     @Override
     @PublicAPI(usage = ACCESS)
     public CompositeArchRule because(String reason) {
-        return new CompositeArchRule(priority, rules, createBecauseDescription(this, reason));
+        return new CompositeArchRule(priority, rules, createBecauseDescription(this, reason), parallel);
+    }
+
+    /**
+     * @see ArchRule#stopAfterViolations(int)
+     * @return A {@link CompositeArchRule} where each of the composed rules stops its evaluation after the given number of violations
+     */
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public CompositeArchRule stopAfterViolations(int maxNumberOfViolations) {
+        ImmutableList.Builder<ArchRule> newRules = ImmutableList.builder();
+        for (ArchRule rule : rules) {
+            newRules.add(rule.stopAfterViolations(maxNumberOfViolations));
+        }
+        return new CompositeArchRule(priority, newRules.build(), description, parallel);
+    }
+
+    /**
+     * @see ArchRule#streamViolationsTo(ViolationHandler)
+     * @return A {@link CompositeArchRule} where each of the composed rules streams its violations to the given {@link ViolationHandler}
+     */
+    @Override
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public CompositeArchRule streamViolationsTo(ViolationHandler<?> violationHandler) {
+        ImmutableList.Builder<ArchRule> newRules = ImmutableList.builder();
+        for (ArchRule rule : rules) {
+            newRules.add(rule.streamViolationsTo(violationHandler));
+        }
+        return new CompositeArchRule(priority, newRules.build(), description, parallel);
+    }
+
+    /**
+     * Evaluates the composed rules concurrently on a {@link ForkJoinPool} owned by ArchUnit, that uses
+     * as many threads as there are available processors. The results are merged in the order the rules have been
+     * added, so the {@link EvaluationResult} is the same as if the rules had been evaluated one after another.
+     * Note that conditions and {@link ViolationHandler ViolationHandlers} shared between several of the composed
+     * rules will then be used concurrently.
+     *
+     * @return A {@link CompositeArchRule} evaluating the composed rules in parallel
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public CompositeArchRule parallel() {
+        return new CompositeArchRule(priority, rules, description, true);
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public EvaluationResult evaluate(JavaClasses classes) {
+        List<EvaluationResult> partialResults = parallel && rules.size() > 1
+                ? ArchUnitForkJoinPool.get().invoke(new ParallelRuleEvaluation(rules, classes))
+                : evaluateSequentially(classes);
+
         EvaluationResult result = new EvaluationResult(this, priority);
+        for (EvaluationResult partialResult : partialResults) {
+            result.add(partialResult);
+        }
+        return result;
+    }
+
+    private List<EvaluationResult> evaluateSequentially(JavaClasses classes) {
+        List<EvaluationResult> result = new ArrayList<>();
         for (ArchRule rule : rules) {
             result.add(rule.evaluate(classes));
         }
@@ -95,7 +156,7 @@ public final class CompositeArchRule implements ArchRule {
     @Override
     @PublicAPI(usage = ACCESS)
     public CompositeArchRule as(String newDescription) {
-        return new CompositeArchRule(priority, rules, newDescription);
+        return new CompositeArchRule(priority, rules, newDescription, parallel);
     }
 
     @Override
@@ -104,6 +165,36 @@ public final class CompositeArchRule implements ArchRule {
         return description;
     }
 
+    private static class ParallelRuleEvaluation extends RecursiveTask<List<EvaluationResult>> {
+        private final List<ArchRule> rules;
+        private final JavaClasses classes;
+
+        ParallelRuleEvaluation(List<ArchRule> rules, JavaClasses classes) {
+            this.rules = rules;
+            this.classes = classes;
+        }
+
+        @Override
+        protected List<EvaluationResult> compute() {
+            List<RecursiveTask<EvaluationResult>> evaluations = new ArrayList<>();
+            for (final ArchRule rule : rules) {
+                evaluations.add(new RecursiveTask<EvaluationResult>() {
+                    @Override
+                    protected EvaluationResult compute() {
+                        return rule.evaluate(classes);
+                    }
+                });
+            }
+            invokeAll(evaluations);
+
+            List<EvaluationResult> result = new ArrayList<>();
+            for (RecursiveTask<EvaluationResult> evaluation : evaluations) {
+                result.add(evaluation.join());
+            }
+            return result;
+        }
+    }
+
     @PublicAPI(usage = ACCESS)
     public static final class Creator {
         private final Priority priority;
@@ -114,7 +205,7 @@ public final class CompositeArchRule implements ArchRule {
 
         @PublicAPI(usage = ACCESS)
         public final CompositeArchRule of(ArchRule rule) {
-            return new CompositeArchRule(priority, singletonList(rule), rule.getDescription());
+            return new CompositeArchRule(priority, singletonList(rule), rule.getDescription(), false);
         }
     }
 }
@@ -44,6 +44,10 @@ public interface ConditionEvent {
     void addInvertedTo(ConditionEvents events);
 
     /**
+     * Note that most events (in particular satisfied ones) are never reported. Thus implementations should
+     * defer creating the description until this method (or {@link #handleWith(Handler)}) is actually called,
+     * compare {@link SimpleConditionEvent#SimpleConditionEvent(Object, boolean, com.tngtech.archunit.base.Supplier)}.
+     *
      * @return A textual description of this event as a list of lines
      */
     List<String> getDescriptionLines();
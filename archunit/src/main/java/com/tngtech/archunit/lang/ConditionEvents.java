@@ -24,9 +24,10 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Ordering;
 import com.google.common.reflect.TypeToken;
+import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.Optional;
 
@@ -37,14 +38,135 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
 
     @PublicAPI(usage = ACCESS)
     public ConditionEvents() {
+        this(true, Optional.<ViolationHandler<?>>empty());
     }
 
-    private final Multimap<Type, ConditionEvent> eventsByViolation = ArrayListMultimap.create();
+    private ConditionEvents(boolean retainAllowedEvents, Optional<ViolationHandler<?>> violationHandler) {
+        this.retainAllowedEvents = retainAllowedEvents;
+        this.violationStream = violationHandler.isPresent()
+                ? Optional.<ConditionEvent.Handler>of(new CountingHandler(convertToEventHandler(violationHandler.get())))
+                : Optional.<ConditionEvent.Handler>empty();
+    }
+
+    private final ListMultimap<Type, ConditionEvent> eventsByViolation = ArrayListMultimap.create();
+    private final boolean retainAllowedEvents;
+    private final Optional<ConditionEvent.Handler> violationStream;
+    private int numberOfDiscardedAllowedEvents = 0;
+    private int numberOfStreamedViolations = 0;
+    private int numberOfStreamedViolationMessages = 0;
     private Optional<String> informationAboutNumberOfViolations = Optional.empty();
+    private Optional<Integer> statedNumberOfViolations = Optional.empty();
+    private boolean numberOfViolationsIncomplete = false;
 
     @PublicAPI(usage = ACCESS)
     public void add(ConditionEvent event) {
-        eventsByViolation.get(Type.from(event.isViolation())).add(event);
+        Type type = Type.from(event.isViolation());
+        if (type == Type.ALLOWED && !retainAllowedEvents) {
+            numberOfDiscardedAllowedEvents++;
+        } else if (type == Type.VIOLATION && violationStream.isPresent()) {
+            numberOfStreamedViolations++;
+            event.handleWith(violationStream.get());
+        } else {
+            eventsByViolation.get(type).add(event);
+        }
+    }
+
+    void addAll(ConditionEvents events) {
+        for (ConditionEvent event : events.eventsByViolation.get(Type.VIOLATION)) {
+            add(event);
+        }
+        for (ConditionEvent event : events.eventsByViolation.get(Type.ALLOWED)) {
+            add(event);
+        }
+        numberOfDiscardedAllowedEvents += events.numberOfDiscardedAllowedEvents;
+        numberOfStreamedViolations += events.numberOfStreamedViolations;
+        numberOfStreamedViolationMessages += events.numberOfStreamedViolationMessages;
+        addInformationAboutNumberOfViolationsFrom(events);
+    }
+
+    /**
+     * Merges the information about the number of violations of some events, whose violations have already been added
+     * to these events, into the information of these events. If only one of them has any violations, its information
+     * is taken over unchanged. Otherwise the numbers of violations are summed up, and if the number of violations
+     * of either of them is incomplete, so is the merged number.
+     */
+    void addInformationAboutNumberOfViolationsFrom(ConditionEvents events) {
+        if (!informationAboutNumberOfViolations.isPresent() && !events.informationAboutNumberOfViolations.isPresent()) {
+            return;
+        }
+
+        int numberOfAddedViolations = events.getStatedNumberOfViolations();
+        int numberOfViolationsBefore = statedNumberOfViolations.isPresent()
+                ? statedNumberOfViolations.get()
+                : countViolationLines() - events.countViolationLines();
+        if (numberOfViolationsBefore == 0 && !informationAboutNumberOfViolations.isPresent()) {
+            informationAboutNumberOfViolations = events.informationAboutNumberOfViolations;
+            statedNumberOfViolations = events.statedNumberOfViolations;
+            numberOfViolationsIncomplete = events.numberOfViolationsIncomplete;
+            return;
+        }
+        if (numberOfAddedViolations == 0 && !events.informationAboutNumberOfViolations.isPresent()) {
+            return;
+        }
+
+        int numberOfViolations = numberOfViolationsBefore + numberOfAddedViolations;
+        boolean incomplete = numberOfViolationsIncomplete || events.numberOfViolationsIncomplete;
+        String information = incomplete
+                ? String.format(">= %d times - not all violations have been reported", numberOfViolations)
+                : numberOfViolations + " times";
+        setInformationAboutNumberOfViolations(information, numberOfViolations, incomplete);
+    }
+
+    private int getStatedNumberOfViolations() {
+        return statedNumberOfViolations.isPresent() ? statedNumberOfViolations.get() : countViolationLines();
+    }
+
+    private int countViolationLines() {
+        int result = 0;
+        for (ConditionEvent violation : getViolating()) {
+            result += violation.getDescriptionLines().size();
+        }
+        return result;
+    }
+
+    /**
+     * Drops all violations beyond the first {@code maxNumberOfViolations} and records, that the number of violations was limited.
+     * Since a single violation might be described by several lines, the reported number of times the rule has been violated
+     * refers to the lines of the retained violations.
+     *
+     * @param maxNumberOfViolations The maximum number of violations to retain
+     * @param evaluationStopped     Whether objects have not been checked anymore after the limit had been reached,
+     *                              i.e. whether the actual number of violations is unknown
+     */
+    void limitViolations(int maxNumberOfViolations, boolean evaluationStopped) {
+        List<ConditionEvent> violations = eventsByViolation.get(Type.VIOLATION);
+        int numberOfViolations = violations.size();
+        if (numberOfViolations > maxNumberOfViolations) {
+            violations.subList(maxNumberOfViolations, numberOfViolations).clear();
+        }
+        if (evaluationStopped || numberOfViolations > maxNumberOfViolations) {
+            int numberOfReportedLines = numberOfStreamedViolationMessages + countViolationLines();
+            setInformationAboutIncompleteNumberOfViolations(numberOfReportedLines, String.format(
+                    ">= %d times - the maximum number of %d violations to report has been reached",
+                    numberOfReportedLines, maxNumberOfViolations));
+        }
+    }
+
+    /**
+     * Violations that have been streamed are not retained. To report the rule as violated anyway, a single violation
+     * summarizing the streamed violations is recorded instead.
+     */
+    void addSummaryOfStreamedViolations() {
+        if (numberOfStreamedViolations == 0) {
+            return;
+        }
+        String summary = String.format("%d violations have been passed to the violation handler during the evaluation",
+                numberOfStreamedViolationMessages);
+        eventsByViolation.get(Type.VIOLATION).add(SimpleConditionEvent.violated(numberOfStreamedViolationMessages, summary));
+        if (!informationAboutNumberOfViolations.isPresent()) {
+            setInformationAboutNumberOfViolations(
+                    numberOfStreamedViolationMessages + " times", numberOfStreamedViolationMessages, false);
+        }
     }
 
     /**
@@ -58,6 +180,27 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
     @PublicAPI(usage = ACCESS)
     public void setInformationAboutNumberOfViolations(String informationAboutNumberOfViolations) {
         this.informationAboutNumberOfViolations = Optional.of(informationAboutNumberOfViolations);
+        this.statedNumberOfViolations = Optional.empty();
+        this.numberOfViolationsIncomplete = false;
+    }
+
+    /**
+     * Like {@link #setInformationAboutNumberOfViolations(String)}, but additionally states that there are at least
+     * {@code minNumberOfViolations} violations, not all of which have been reported. This allows to still report
+     * an incomplete number of violations, when these events are merged with others (e.g. by a {@link CompositeArchRule}).
+     *
+     * @param minNumberOfViolations The number of violations that are known to exist
+     * @param informationAboutNumberOfViolations The text to be shown for the number of times a rule has been violated
+     */
+    @Internal
+    public void setInformationAboutIncompleteNumberOfViolations(int minNumberOfViolations, String informationAboutNumberOfViolations) {
+        setInformationAboutNumberOfViolations(informationAboutNumberOfViolations, minNumberOfViolations, true);
+    }
+
+    private void setInformationAboutNumberOfViolations(String information, int numberOfViolations, boolean incomplete) {
+        this.informationAboutNumberOfViolations = Optional.of(information);
+        this.statedNumberOfViolations = Optional.of(numberOfViolations);
+        this.numberOfViolationsIncomplete = incomplete;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -65,6 +208,15 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
         return eventsByViolation.get(Type.VIOLATION);
     }
 
+    /**
+     * Note that the events ArchUnit passes to the built-in conditions of a rule do not retain allowed events
+     * (compare {@link ArchCondition#requiresAllowedEvents()}), unless {@code archRule.evaluation.retainAllowedEvents=true}
+     * is configured within {@value com.tngtech.archunit.ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}.
+     * Allowed events will then only be counted (compare {@link #isEmpty()}), but not be contained within the result
+     * of this method. Custom conditions always receive events retaining all allowed events.
+     *
+     * @return All allowed events that have been added to these events
+     */
     @PublicAPI(usage = ACCESS)
     public Collection<ConditionEvent> getAllowed() {
         return eventsByViolation.get(Type.ALLOWED);
@@ -75,9 +227,17 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
         return !getViolating().isEmpty();
     }
 
+    int countViolations() {
+        return getViolating().size() + numberOfStreamedViolations;
+    }
+
+    int countEvents() {
+        return countViolations() + getAllowed().size() + numberOfDiscardedAllowedEvents;
+    }
+
     @PublicAPI(usage = ACCESS)
     public boolean isEmpty() {
-        return getAllowed().isEmpty() && getViolating().isEmpty();
+        return getAllowed().isEmpty() && getViolating().isEmpty() && numberOfDiscardedAllowedEvents == 0 && numberOfStreamedViolations == 0;
     }
 
     /**
@@ -121,7 +281,7 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
         }
     }
 
-    private <T> ConditionEvent.Handler convertToEventHandler(final ViolationHandler<T> handler) {
+    private static <T> ConditionEvent.Handler convertToEventHandler(final ViolationHandler<T> handler) {
         final Class<?> supportedElementType = TypeToken.of(handler.getClass())
                 .resolveType(ViolationHandler.class.getTypeParameters()[0]).getRawType();
 
@@ -138,7 +298,7 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
         };
     }
 
-    private boolean allElementTypesMatch(Collection<?> violatingObjects, Class<?> supportedElementType) {
+    private static boolean allElementTypesMatch(Collection<?> violatingObjects, Class<?> supportedElementType) {
         for (Object violatingObject : violatingObjects) {
             if (!supportedElementType.isInstance(violatingObject)) {
                 return false;
@@ -161,6 +321,37 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
                 '}';
     }
 
+    /**
+     * @param retainAllowedEvents if false, allowed events will only be counted. Most allowed events are never looked at again,
+     *                            since only violations are reported. Conditions that need allowed events, e.g. to invert them,
+     *                            always record the events of the conditions they are composed of on their own.
+     */
+    static ConditionEvents create(boolean retainAllowedEvents) {
+        return new ConditionEvents(retainAllowedEvents, Optional.<ViolationHandler<?>>empty());
+    }
+
+    /**
+     * @param violationStream receives every violation as soon as it is added. Streamed violations are only counted,
+     *                        but not retained, compare {@link #addSummaryOfStreamedViolations()}
+     */
+    static ConditionEvents create(boolean retainAllowedEvents, ViolationHandler<?> violationStream) {
+        return new ConditionEvents(retainAllowedEvents, Optional.<ViolationHandler<?>>of(violationStream));
+    }
+
+    private class CountingHandler implements ConditionEvent.Handler {
+        private final ConditionEvent.Handler delegate;
+
+        CountingHandler(ConditionEvent.Handler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void handle(Collection<?> correspondingObjects, String message) {
+            numberOfStreamedViolationMessages++;
+            delegate.handle(correspondingObjects, message);
+        }
+    }
+
     private static final Function<ConditionEvent, Iterable<String>> TO_DESCRIPTION_LINES = new Function<ConditionEvent, Iterable<String>>() {
         @Override
         public Iterable<String> apply(ConditionEvent input) {
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import com.tngtech.archunit.ArchConfiguration;
+
+final class EvaluationConfiguration {
+    static final String PARALLEL_EVALUATION_PROPERTY_NAME = "archRule.evaluation.parallel";
+    private static final String PARALLEL_EVALUATION_DEFAULT_VALUE = "false";
+    static final String RETAIN_ALLOWED_EVENTS_PROPERTY_NAME = "archRule.evaluation.retainAllowedEvents";
+    private static final String RETAIN_ALLOWED_EVENTS_DEFAULT_VALUE = "false";
+    static final String MAX_NUMBER_OF_VIOLATIONS_PROPERTY_NAME = "archRule.evaluation.maxViolations";
+    private static final String MAX_NUMBER_OF_VIOLATIONS_DEFAULT_VALUE = String.valueOf(Integer.MAX_VALUE);
+    static final String PROFILING_PROPERTY_NAME = "archRule.evaluation.profile";
+    private static final String PROFILING_DEFAULT_VALUE = "false";
+
+    private final boolean parallelEvaluationEnabled;
+    private final boolean retainAllowedEvents;
+    private final int maxNumberOfViolations;
+    private final boolean profilingEnabled;
+
+    EvaluationConfiguration() {
+        String configuredParallelEvaluation = ArchConfiguration.get()
+                .getPropertyOrDefault(PARALLEL_EVALUATION_PROPERTY_NAME, PARALLEL_EVALUATION_DEFAULT_VALUE);
+        parallelEvaluationEnabled = Boolean.parseBoolean(configuredParallelEvaluation);
+
+        String configuredRetainAllowedEvents = ArchConfiguration.get()
+                .getPropertyOrDefault(RETAIN_ALLOWED_EVENTS_PROPERTY_NAME, RETAIN_ALLOWED_EVENTS_DEFAULT_VALUE);
+        retainAllowedEvents = Boolean.parseBoolean(configuredRetainAllowedEvents);
+
+        String configuredMaxNumberOfViolations = ArchConfiguration.get()
+                .getPropertyOrDefault(MAX_NUMBER_OF_VIOLATIONS_PROPERTY_NAME, MAX_NUMBER_OF_VIOLATIONS_DEFAULT_VALUE);
+        maxNumberOfViolations = Integer.parseInt(configuredMaxNumberOfViolations);
+
+        String configuredProfiling = ArchConfiguration.get()
+                .getPropertyOrDefault(PROFILING_PROPERTY_NAME, PROFILING_DEFAULT_VALUE);
+        profilingEnabled = Boolean.parseBoolean(configuredProfiling);
+    }
+
+    boolean isParallelEvaluationEnabled() {
+        return parallelEvaluationEnabled;
+    }
+
+    boolean isRetainAllowedEvents() {
+        return retainAllowedEvents;
+    }
+
+    int getMaxNumberOfViolations() {
+        return maxNumberOfViolations;
+    }
+
+    boolean isProfilingEnabled() {
+        return profilingEnabled;
+    }
+}
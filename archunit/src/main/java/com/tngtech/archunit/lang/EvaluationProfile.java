@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Optional;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Metrics recorded while a single rule was evaluated, if profiling is enabled via
+ * {@code archRule.evaluation.profile=true} within
+ * {@value com.tngtech.archunit.ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}.
+ * Times are split into the phases of the evaluation, i.e. transforming the classes into the objects to check
+ * (compare {@link ClassesTransformer#transform(com.tngtech.archunit.core.domain.JavaClasses)}), and
+ * {@link ArchCondition#init(Iterable) initializing}, {@link ArchCondition#check(Object, ConditionEvents) checking}
+ * and {@link ArchCondition#finish(ConditionEvents) finishing} the condition.
+ * <br><br>
+ * CPU time and allocated bytes are only measured for the thread evaluating the rule and only if the JVM supports it.
+ * Work done by other threads, e.g. if the rule is checked in parallel, is not contained.
+ *
+ * @see EvaluationResult#getProfiles()
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class EvaluationProfile {
+    private final String ruleDescription;
+    private final String conditionDescription;
+    private final long transformNanos;
+    private final long initNanos;
+    private final long checkNanos;
+    private final long finishNanos;
+    private final Optional<Long> cpuNanos;
+    private final Optional<Long> allocatedBytes;
+    private final int numberOfObjects;
+    private final int numberOfEvents;
+
+    EvaluationProfile(String ruleDescription, String conditionDescription,
+            long transformNanos, long initNanos, long checkNanos, long finishNanos,
+            Optional<Long> cpuNanos, Optional<Long> allocatedBytes, int numberOfObjects, int numberOfEvents) {
+        this.ruleDescription = ruleDescription;
+        this.conditionDescription = conditionDescription;
+        this.transformNanos = transformNanos;
+        this.initNanos = initNanos;
+        this.checkNanos = checkNanos;
+        this.finishNanos = finishNanos;
+        this.cpuNanos = cpuNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.numberOfObjects = numberOfObjects;
+        this.numberOfEvents = numberOfEvents;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public String getRuleDescription() {
+        return ruleDescription;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public String getConditionDescription() {
+        return conditionDescription;
+    }
+
+    /**
+     * @return the wall time of the whole evaluation in nanoseconds
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getWallTimeNanos() {
+        return transformNanos + initNanos + checkNanos + finishNanos;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getTransformNanos() {
+        return transformNanos;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getInitNanos() {
+        return initNanos;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getCheckNanos() {
+        return checkNanos;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getFinishNanos() {
+        return finishNanos;
+    }
+
+    /**
+     * @return the CPU time the evaluating thread spent on the evaluation in nanoseconds, if the JVM supports measuring it
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Optional<Long> getCpuTimeNanos() {
+        return cpuNanos;
+    }
+
+    /**
+     * @return the number of bytes the evaluating thread allocated during the evaluation, if the JVM supports measuring it
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Optional<Long> getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return the number of objects the condition was checked against
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getNumberOfObjects() {
+        return numberOfObjects;
+    }
+
+    /**
+     * @return the number of events (violated and allowed) the condition produced
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getNumberOfEvents() {
+        return numberOfEvents;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Rule '%s' took %d ms (transform: %d ms, init: %d ms, check: %d ms, finish: %d ms, cpu: %s, allocated: %s) "
+                        + "checking %d objects with %d events",
+                ruleDescription, toMillis(getWallTimeNanos()), toMillis(transformNanos), toMillis(initNanos), toMillis(checkNanos), toMillis(finishNanos),
+                cpuNanos.isPresent() ? toMillis(cpuNanos.get()) + " ms" : "n/a",
+                allocatedBytes.isPresent() ? allocatedBytes.get() / 1024 + " KB" : "n/a",
+                numberOfObjects, numberOfEvents);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
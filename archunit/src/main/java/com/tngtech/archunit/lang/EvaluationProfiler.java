@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.collect.Iterables;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.MayResolveTypesViaReflection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the phases of the evaluation of a single rule, if profiling is enabled. Each phase is finished by
+ * a call to {@link #lap()}, the resulting {@link EvaluationProfile} is logged and attached to the {@link EvaluationResult}.
+ */
+class EvaluationProfiler {
+    private static final Logger log = LoggerFactory.getLogger(EvaluationProfiler.class);
+
+    private static final EvaluationProfiler DISABLED = new EvaluationProfiler() {
+        @Override
+        void lap() {
+        }
+
+        @Override
+        List<EvaluationProfile> createProfiles(String ruleDescription, String conditionDescription, Iterable<?> objects, ConditionEvents events) {
+            return Collections.emptyList();
+        }
+    };
+
+    private static final int NUMBER_OF_PHASES = 4;
+
+    private final long[] phaseNanos = new long[NUMBER_OF_PHASES];
+    private int currentPhase = 0;
+    private long lastLapNanos;
+    private final Optional<Long> cpuNanosAtStart;
+    private final Optional<Long> allocatedBytesAtStart;
+
+    private EvaluationProfiler() {
+        cpuNanosAtStart = ThreadResourceUsage.getCurrentThreadCpuNanos();
+        allocatedBytesAtStart = ThreadResourceUsage.getCurrentThreadAllocatedBytes();
+        lastLapNanos = System.nanoTime();
+    }
+
+    void lap() {
+        long now = System.nanoTime();
+        phaseNanos[currentPhase++] = now - lastLapNanos;
+        lastLapNanos = now;
+    }
+
+    List<EvaluationProfile> createProfiles(String ruleDescription, String conditionDescription, Iterable<?> objects, ConditionEvents events) {
+        EvaluationProfile profile = new EvaluationProfile(ruleDescription, conditionDescription,
+                phaseNanos[0], phaseNanos[1], phaseNanos[2], phaseNanos[3],
+                difference(cpuNanosAtStart, ThreadResourceUsage.getCurrentThreadCpuNanos()),
+                difference(allocatedBytesAtStart, ThreadResourceUsage.getCurrentThreadAllocatedBytes()),
+                Iterables.size(objects), events.countEvents());
+        log.info("{}", profile);
+        return Collections.singletonList(profile);
+    }
+
+    private static Optional<Long> difference(Optional<Long> start, Optional<Long> end) {
+        return start.isPresent() && end.isPresent()
+                ? Optional.of(end.get() - start.get())
+                : Optional.<Long>empty();
+    }
+
+    static EvaluationProfiler start(boolean profilingEnabled) {
+        return profilingEnabled ? new EvaluationProfiler() : DISABLED;
+    }
+
+    private static class ThreadResourceUsage {
+        private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        private static final Optional<Method> getThreadAllocatedBytes = findGetThreadAllocatedBytes();
+
+        static Optional<Long> getCurrentThreadCpuNanos() {
+            return threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled()
+                    ? Optional.of(threadMXBean.getCurrentThreadCpuTime())
+                    : Optional.<Long>empty();
+        }
+
+        static Optional<Long> getCurrentThreadAllocatedBytes() {
+            if (!getThreadAllocatedBytes.isPresent()) {
+                return Optional.empty();
+            }
+            try {
+                long allocatedBytes = (long) getThreadAllocatedBytes.get().invoke(threadMXBean, Thread.currentThread().getId());
+                return allocatedBytes >= 0 ? Optional.of(allocatedBytes) : Optional.<Long>empty();
+            } catch (Exception e) {
+                return Optional.empty();
+            }
+        }
+
+        // com.sun.management.ThreadMXBean is not available on every JVM, thus we cannot reference it directly
+        @MayResolveTypesViaReflection(reason = "This is not part of the import process")
+        private static Optional<Method> findGetThreadAllocatedBytes() {
+            try {
+                Class<?> extendedThreadMXBean = Class.forName("com.sun.management.ThreadMXBean");
+                if (!extendedThreadMXBean.isInstance(threadMXBean)) {
+                    return Optional.empty();
+                }
+                Method result = extendedThreadMXBean.getMethod("getThreadAllocatedBytes", long.class);
+                result.invoke(threadMXBean, Thread.currentThread().getId());
+                return Optional.of(result);
+            } catch (Exception | LinkageError e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
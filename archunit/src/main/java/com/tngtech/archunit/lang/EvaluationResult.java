@@ -17,6 +17,7 @@ package com.tngtech.archunit.lang;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import com.tngtech.archunit.PublicAPI;
@@ -24,6 +25,7 @@ import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.base.Predicate;
 import com.tngtech.archunit.core.domain.JavaClasses;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
@@ -44,6 +46,7 @@ public final class EvaluationResult {
     private final HasDescription rule;
     private final ConditionEvents events;
     private final Priority priority;
+    private final List<EvaluationProfile> profiles;
 
     @PublicAPI(usage = ACCESS)
     public EvaluationResult(HasDescription rule, Priority priority) {
@@ -52,9 +55,14 @@ public final class EvaluationResult {
 
     @PublicAPI(usage = ACCESS)
     public EvaluationResult(HasDescription rule, ConditionEvents events, Priority priority) {
+        this(rule, events, priority, Collections.<EvaluationProfile>emptyList());
+    }
+
+    EvaluationResult(HasDescription rule, ConditionEvents events, Priority priority, List<EvaluationProfile> profiles) {
         this.rule = rule;
         this.events = events;
         this.priority = priority;
+        this.profiles = new ArrayList<>(profiles);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -67,6 +75,18 @@ public final class EvaluationResult {
         for (ConditionEvent event : part.events) {
             events.add(event);
         }
+        events.addInformationAboutNumberOfViolationsFrom(part.events);
+        profiles.addAll(part.profiles);
+    }
+
+    /**
+     * @return One {@link EvaluationProfile} for every single rule that has been evaluated to obtain this result
+     *         (e.g. several ones for a {@link CompositeArchRule}), if profiling is enabled via
+     *         {@code archRule.evaluation.profile=true}. Otherwise an empty list.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public List<EvaluationProfile> getProfiles() {
+        return Collections.unmodifiableList(profiles);
     }
 
     /**
@@ -100,7 +120,24 @@ public final class EvaluationResult {
         for (ConditionEvent event : events) {
             filtered.add(new FilteredEvent(event, linePredicate));
         }
-        return new EvaluationResult(rule, filtered, priority);
+        return new EvaluationResult(rule, filtered, priority, profiles);
+    }
+
+    /**
+     * Drops all violations beyond the first {@code maxNumberOfViolations} recorded violations. If violations are dropped,
+     * the {@link FailureReport} will state that the maximum number of violations to report has been reached.
+     *
+     * @param maxNumberOfViolations The maximum number of violations to retain
+     * @return A new {@link EvaluationResult} containing at most {@code maxNumberOfViolations} violations
+     * @see ArchRule#stopAfterViolations(int)
+     */
+    @PublicAPI(usage = ACCESS)
+    public EvaluationResult limitViolations(int maxNumberOfViolations) {
+        checkArgument(maxNumberOfViolations > 0, "Maximum number of violations must be positive, but was %s", maxNumberOfViolations);
+        ConditionEvents limited = new ConditionEvents();
+        limited.addAll(events);
+        limited.limitViolations(maxNumberOfViolations, false);
+        return new EvaluationResult(rule, limited, priority, profiles);
     }
 
     private static class FilteredEvent implements ConditionEvent {
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.tngtech.archunit.base.ArchUnitForkJoinPool;
+
+/**
+ * Checks an {@link ArchCondition} against all objects by recursively splitting them into partitions, that are
+ * checked in parallel. Every partition records its own {@link ConditionEvents}, which are merged in the order
+ * of the partitions, so the resulting events are the same as if all objects had been checked one after another.
+ */
+final class ParallelConditionCheck<T> extends RecursiveTask<ConditionEvents> {
+    private static final int MIN_PARTITION_SIZE = 64;
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    private final ArchCondition<T> condition;
+    private final List<T> objects;
+    private final int maxPartitionSize;
+    private final boolean retainAllowedEvents;
+    private final ViolationLimit violationLimit;
+
+    private ParallelConditionCheck(ArchCondition<T> condition, List<T> objects, int maxPartitionSize,
+            boolean retainAllowedEvents, ViolationLimit violationLimit) {
+        this.condition = condition;
+        this.objects = objects;
+        this.maxPartitionSize = maxPartitionSize;
+        this.retainAllowedEvents = retainAllowedEvents;
+        this.violationLimit = violationLimit;
+    }
+
+    @Override
+    protected ConditionEvents compute() {
+        if (objects.size() <= maxPartitionSize) {
+            return checkSequentially(condition, objects, retainAllowedEvents, violationLimit);
+        }
+
+        int middle = objects.size() / 2;
+        ParallelConditionCheck<T> secondHalf = partition(objects.subList(middle, objects.size()));
+        secondHalf.fork();
+        ConditionEvents result = partition(objects.subList(0, middle)).compute();
+        result.addAll(secondHalf.join());
+        return result;
+    }
+
+    private ParallelConditionCheck<T> partition(List<T> partitionObjects) {
+        return new ParallelConditionCheck<>(condition, partitionObjects, maxPartitionSize, retainAllowedEvents, violationLimit);
+    }
+
+    static <T> ConditionEvents checkInParallel(ArchCondition<T> condition, List<T> objects,
+            boolean retainAllowedEvents, ViolationLimit violationLimit) {
+        ForkJoinPool pool = ArchUnitForkJoinPool.get();
+        int maxPartitionSize = Math.max(MIN_PARTITION_SIZE, objects.size() / (pool.getParallelism() * PARTITIONS_PER_THREAD));
+        return objects.size() > maxPartitionSize
+                ? pool.invoke(new ParallelConditionCheck<>(condition, objects, maxPartitionSize, retainAllowedEvents, violationLimit))
+                : checkSequentially(condition, objects, retainAllowedEvents, violationLimit);
+    }
+
+    static <T> ConditionEvents checkSequentially(ArchCondition<T> condition, Iterable<T> objects,
+            boolean retainAllowedEvents, ViolationLimit violationLimit) {
+        return checkSequentially(condition, objects, ConditionEvents.create(retainAllowedEvents), violationLimit);
+    }
+
+    static <T> ConditionEvents checkSequentially(ArchCondition<T> condition, Iterable<T> objects,
+            ConditionEvents events, ViolationLimit violationLimit) {
+        if (!violationLimit.isActive()) {
+            for (T object : objects) {
+                condition.check(object, events);
+            }
+            return events;
+        }
+
+        for (T object : objects) {
+            if (violationLimit.isReached()) {
+                violationLimit.stopEvaluation();
+                break;
+            }
+            int numberOfViolationsBefore = events.countViolations();
+            condition.check(object, events);
+            violationLimit.addViolations(events.countViolations() - numberOfViolationsBefore);
+        }
+        return events;
+    }
+}
@@ -19,23 +19,47 @@ import java.util.Collections;
 import java.util.List;
 
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Supplier;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static java.util.Collections.singletonList;
 
+/**
+ * A {@link ConditionEvent} with a single corresponding object and a single line of description.
+ * <br><br>
+ * The message can either be passed as a {@link String} or as a {@link Supplier} of a {@link String}.
+ * A supplied message is only rendered once it is actually needed (e.g. to report a violation)
+ * and then reused. Since most satisfied events are never reported, this avoids formatting messages
+ * nobody will ever read. Violations render their message right away to verify it is not empty.
+ */
 @PublicAPI(usage = ACCESS)
 public final class SimpleConditionEvent implements ConditionEvent {
     private final Object correspondingObject;
     private final boolean conditionSatisfied;
-    private final String message;
+    private final Message message;
 
     public SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, String message) {
+        this(correspondingObject, conditionSatisfied, new Message(message));
+    }
+
+    /**
+     * @param correspondingObject The object this event describes
+     * @param conditionSatisfied  Whether the condition was satisfied
+     * @param messageSupplier     Supplies the message of this event once it is needed. Will be called at most once.
+     */
+    @PublicAPI(usage = ACCESS)
+    public SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, Supplier<String> messageSupplier) {
+        this(correspondingObject, conditionSatisfied, new Message(messageSupplier));
+    }
+
+    private SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, Message message) {
         this.correspondingObject = correspondingObject;
         this.conditionSatisfied = conditionSatisfied;
         this.message = message;
-        checkArgument(conditionSatisfied || !this.message.trim().isEmpty(), "Message may not be empty for violation");
+        checkArgument(conditionSatisfied || !this.message.get().trim().isEmpty(), "Message may not be empty for violation");
     }
 
     @Override
@@ -50,12 +74,12 @@ public final class SimpleConditionEvent implements ConditionEvent {
 
     @Override
     public List<String> getDescriptionLines() {
-        return singletonList(message);
+        return singletonList(message.get());
     }
 
     @Override
     public void handleWith(Handler handler) {
-        handler.handle(Collections.singleton(correspondingObject), message);
+        handler.handle(Collections.singleton(correspondingObject), message.get());
     }
 
     @Override
@@ -63,7 +87,7 @@ public final class SimpleConditionEvent implements ConditionEvent {
         return toStringHelper(this)
                 .add("correspondingObject", correspondingObject)
                 .add("conditionSatisfied", conditionSatisfied)
-                .add("message", message)
+                .add("message", message.get())
                 .toString();
     }
 
@@ -71,7 +95,43 @@ public final class SimpleConditionEvent implements ConditionEvent {
         return new SimpleConditionEvent(correspondingObject, false, message);
     }
 
+    @PublicAPI(usage = ACCESS)
+    public static ConditionEvent violated(Object correspondingObject, Supplier<String> messageSupplier) {
+        return new SimpleConditionEvent(correspondingObject, false, messageSupplier);
+    }
+
     public static ConditionEvent satisfied(Object correspondingObject, String message) {
         return new SimpleConditionEvent(correspondingObject, true, message);
     }
+
+    @PublicAPI(usage = ACCESS)
+    public static ConditionEvent satisfied(Object correspondingObject, Supplier<String> messageSupplier) {
+        return new SimpleConditionEvent(correspondingObject, true, messageSupplier);
+    }
+
+    private static class Message {
+        private volatile Supplier<String> supplier;
+        private String rendered;
+
+        Message(String rendered) {
+            this.rendered = rendered;
+        }
+
+        Message(Supplier<String> supplier) {
+            this.supplier = checkNotNull(supplier);
+        }
+
+        String get() {
+            if (supplier == null) {
+                return rendered;
+            }
+            synchronized (this) {
+                if (supplier != null) {
+                    rendered = supplier.get();
+                    supplier = null;
+                }
+                return rendered;
+            }
+        }
+    }
 }
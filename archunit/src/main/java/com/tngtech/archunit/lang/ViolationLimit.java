@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Tracks the number of violations found while a rule is evaluated, so the evaluation can stop as soon as the configured
+ * maximum number of violations has been reached. May be shared by several threads checking partitions of the same rule.
+ * If the condition does not allow to stop early (i.e. it has to see all objects to be evaluated correctly),
+ * the violations are only truncated in the end.
+ */
+final class ViolationLimit {
+    private final int maxNumberOfViolations;
+    private final boolean stoppingEarlyAllowed;
+    private final AtomicInteger numberOfViolations = new AtomicInteger();
+    private volatile boolean evaluationStopped = false;
+
+    ViolationLimit(int maxNumberOfViolations, boolean stoppingEarlyAllowed) {
+        checkArgument(maxNumberOfViolations > 0, "Maximum number of violations must be positive, but was %s", maxNumberOfViolations);
+        this.maxNumberOfViolations = maxNumberOfViolations;
+        this.stoppingEarlyAllowed = stoppingEarlyAllowed;
+    }
+
+    boolean isActive() {
+        return stoppingEarlyAllowed && maxNumberOfViolations < Integer.MAX_VALUE;
+    }
+
+    boolean isReached() {
+        return numberOfViolations.get() >= maxNumberOfViolations;
+    }
+
+    void addViolations(int newViolations) {
+        if (newViolations > 0) {
+            numberOfViolations.addAndGet(newViolations);
+        }
+    }
+
+    void stopEvaluation() {
+        evaluationStopped = true;
+    }
+
+    void applyTo(ConditionEvents events) {
+        events.limitViolations(maxNumberOfViolations, evaluationStopped);
+    }
+}
@@ -42,6 +42,16 @@ abstract class AnyAttributeMatchesCondition<T> extends ArchCondition<JavaClass>
 
     abstract Collection<T> relevantAttributes(JavaClass item);
 
+    @Override
+    public boolean isParallelizable() {
+        return condition.isParallelizable();
+    }
+
+    @Override
+    public boolean requiresAllowedEvents() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -30,6 +30,7 @@ import com.tngtech.archunit.base.Function;
 import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.base.PackageMatcher;
 import com.tngtech.archunit.base.PackageMatchers;
+import com.tngtech.archunit.base.Supplier;
 import com.tngtech.archunit.core.domain.AccessTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.CodeUnitCallTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
@@ -1205,8 +1206,22 @@ public final class ArchConditions {
         return new DoesConditionByPredicate<>(declareThrowableOfType);
     }
 
-    private static <T extends HasDescription & HasSourceCodeLocation> String createMessage(T object, String message) {
-        return object.getDescription() + " " + message + " in " + object.getSourceCodeLocation();
+    private static <T extends HasDescription & HasSourceCodeLocation> Supplier<String> createMessage(final T object, final String message) {
+        return new Supplier<String>() {
+            @Override
+            public String get() {
+                return object.getDescription() + " " + message + " in " + object.getSourceCodeLocation();
+            }
+        };
+    }
+
+    private static Supplier<String> createSimpleNameMessage(final JavaClass javaClass, final String message) {
+        return new Supplier<String>() {
+            @Override
+            public String get() {
+                return "simple name of " + javaClass.getName() + " " + message + " in " + javaClass.getSourceCodeLocation();
+            }
+        };
     }
 
     private static final IsConditionByPredicate<JavaClass> BE_TOP_LEVEL_CLASSES =
@@ -1252,25 +1267,37 @@ public final class ArchConditions {
             String infix = (satisfied ? "is " : "is not ") + modifier.toString().toLowerCase();
             events.add(new SimpleConditionEvent(hasModifiers, satisfied, createMessage(hasModifiers, infix)));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class ImplementsCondition extends ArchCondition<JavaClass> {
         private final DescribedPredicate<? super JavaClass> implement;
+        private final String satisfiedDescription;
+        private final String violatedDescription;
 
         ImplementsCondition(DescribedPredicate<? super JavaClass> implement) {
             super(implement.getDescription());
             this.implement = implement;
+            this.satisfiedDescription = implement.getDescription().replace("implement", "implements");
+            this.violatedDescription = implement.getDescription().replace("implement", "does not implement");
         }
 
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean satisfied = implement.apply(javaClass);
-            String description = satisfied
-                    ? implement.getDescription().replace("implement", "implements")
-                    : implement.getDescription().replace("implement", "does not implement");
-            String message = createMessage(javaClass, description);
+            String description = satisfied ? satisfiedDescription : violatedDescription;
+            Supplier<String> message = createMessage(javaClass, description);
             events.add(new SimpleConditionEvent(javaClass, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class InterfacesCondition extends ArchCondition<JavaClass> {
@@ -1283,10 +1310,15 @@ public final class ArchConditions {
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean isInterface = javaClass.isInterface();
-            String message = createMessage(javaClass,
+            Supplier<String> message = createMessage(javaClass,
                     (isInterface ? "is an" : "is not an") + " interface");
             events.add(new SimpleConditionEvent(javaClass, isInterface, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class EnumsCondition extends ArchCondition<JavaClass> {
@@ -1299,10 +1331,15 @@ public final class ArchConditions {
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean isEnum = javaClass.isEnum();
-            String message = createMessage(javaClass,
+            Supplier<String> message = createMessage(javaClass,
                     (isEnum ? "is an" : "is not an") + " enum");
             events.add(new SimpleConditionEvent(javaClass, isEnum, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class RecordsCondition extends ArchCondition<JavaClass> {
@@ -1315,10 +1352,15 @@ public final class ArchConditions {
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean isRecord = javaClass.isRecord();
-            String message = createMessage(javaClass,
+            Supplier<String> message = createMessage(javaClass,
                     (isRecord ? "is a" : "is not a") + " record");
             events.add(new SimpleConditionEvent(javaClass, isRecord, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class NumberOfElementsCondition extends ArchCondition<JavaClass> {
@@ -1343,6 +1385,16 @@ public final class ArchConditions {
             events.add(new SimpleConditionEvent(size, conditionSatisfied, message));
         }
 
+        @Override
+        public boolean isParallelizable() {
+            return false;
+        }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
+
         private String join(SortedSet<String> strings) {
             return "[" + Joiner.on(", ").join(strings) + "]";
         }
@@ -1359,10 +1411,15 @@ public final class ArchConditions {
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean itemEquivalentToClazz = javaClass.getName().equals(className);
-            String message = createMessage(javaClass,
+            Supplier<String> message = createMessage(javaClass,
                     (itemEquivalentToClazz ? "is " : "is not ") + className);
             events.add(new SimpleConditionEvent(javaClass, itemEquivalentToClazz, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class SimpleNameCondition extends ArchCondition<JavaClass> {
@@ -1378,10 +1435,15 @@ public final class ArchConditions {
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean satisfied = haveSimpleName.apply(javaClass);
-            String message = createMessage(javaClass,
-                    String.format("%s simple name '%s'", satisfied ? "has" : "does not have", name));
+            Supplier<String> message = createMessage(javaClass,
+                    (satisfied ? "has" : "does not have") + " simple name '" + name + "'");
             events.add(new SimpleConditionEvent(javaClass, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class SimpleNameStartingWithCondition extends ArchCondition<JavaClass> {
@@ -1397,13 +1459,15 @@ public final class ArchConditions {
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean satisfied = predicate.apply(javaClass);
-            String message = String.format("simple name of %s %s with '%s' in %s",
-                    javaClass.getName(),
-                    satisfied ? "starts" : "does not start",
-                    prefix,
-                    javaClass.getSourceCodeLocation());
+            Supplier<String> message = createSimpleNameMessage(javaClass,
+                    (satisfied ? "starts" : "does not start") + " with '" + prefix + "'");
             events.add(new SimpleConditionEvent(javaClass, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class SimpleNameContainingCondition extends ArchCondition<JavaClass> {
@@ -1419,13 +1483,15 @@ public final class ArchConditions {
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean satisfied = predicate.apply(javaClass);
-            String message = String.format("simple name of %s %s '%s' in %s",
-                    javaClass.getName(),
-                    satisfied ? "contains" : "does not contain",
-                    infix,
-                    javaClass.getSourceCodeLocation());
+            Supplier<String> message = createSimpleNameMessage(javaClass,
+                    (satisfied ? "contains" : "does not contain") + " '" + infix + "'");
             events.add(new SimpleConditionEvent(javaClass, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class SimpleNameEndingWithCondition extends ArchCondition<JavaClass> {
@@ -1441,13 +1507,15 @@ public final class ArchConditions {
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean satisfied = predicate.apply(javaClass);
-            String message = String.format("simple name of %s %s with '%s' in %s",
-                    javaClass.getName(),
-                    satisfied ? "ends" : "does not end",
-                    suffix,
-                    javaClass.getSourceCodeLocation());
+            Supplier<String> message = createSimpleNameMessage(javaClass,
+                    (satisfied ? "ends" : "does not end") + " with '" + suffix + "'");
             events.add(new SimpleConditionEvent(javaClass, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class MatchingCondition<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
@@ -1463,10 +1531,15 @@ public final class ArchConditions {
         @Override
         public void check(T item, ConditionEvents events) {
             boolean satisfied = matcher.apply(item);
-            String message = createMessage(item,
-                    String.format("%s '%s'", satisfied ? "matches" : "does not match", regex));
+            Supplier<String> message = createMessage(item,
+                    (satisfied ? "matches" : "does not match") + " '" + regex + "'");
             events.add(new SimpleConditionEvent(item, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class StartingCondition<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
@@ -1482,10 +1555,15 @@ public final class ArchConditions {
         @Override
         public void check(T item, ConditionEvents events) {
             boolean satisfied = startingWith.apply(item);
-            String message = createMessage(item,
-                    String.format("name %s '%s'", satisfied ? "starts with" : "does not start with", prefix));
+            Supplier<String> message = createMessage(item,
+                    "name " + (satisfied ? "starts with" : "does not start with") + " '" + prefix + "'");
             events.add(new SimpleConditionEvent(item, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class ContainingCondition<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
@@ -1501,10 +1579,15 @@ public final class ArchConditions {
         @Override
         public void check(T item, ConditionEvents events) {
             boolean satisfied = containing.apply(item);
-            String message = createMessage(item,
-                    String.format("name %s '%s'", satisfied ? "contains" : "does not contain", infix));
+            Supplier<String> message = createMessage(item,
+                    "name " + (satisfied ? "contains" : "does not contain") + " '" + infix + "'");
             events.add(new SimpleConditionEvent(item, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class EndingCondition<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
@@ -1520,10 +1603,15 @@ public final class ArchConditions {
         @Override
         public void check(T item, ConditionEvents events) {
             boolean satisfied = endingWith.apply(item);
-            String message = createMessage(item,
-                    String.format("name %s '%s'", satisfied ? "ends with" : "does not end with", suffix));
+            Supplier<String> message = createMessage(item,
+                    "name " + (satisfied ? "ends with" : "does not end with") + " '" + suffix + "'");
             events.add(new SimpleConditionEvent(item, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class DoesConditionByPredicate<T extends HasDescription & HasSourceCodeLocation>
@@ -1538,10 +1626,15 @@ public final class ArchConditions {
         @Override
         public void check(T item, ConditionEvents events) {
             boolean satisfied = predicate.apply(item);
-            String message = createMessage(item,
+            Supplier<String> message = createMessage(item,
                     (satisfied ? "does " : "does not ") + predicate.getDescription());
             events.add(new SimpleConditionEvent(item, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class IsConditionByPredicate<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
@@ -1561,10 +1654,15 @@ public final class ArchConditions {
         @Override
         public void check(T member, ConditionEvents events) {
             boolean satisfied = predicate.apply(member);
-            String message = createMessage(member,
+            Supplier<String> message = createMessage(member,
                     (satisfied ? "is " : "is not ") + eventDescription);
             events.add(new SimpleConditionEvent(member, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 
     private static class HaveConditionByPredicate<T extends HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
@@ -1578,8 +1676,13 @@ public final class ArchConditions {
         @Override
         public void check(T object, ConditionEvents events) {
             boolean satisfied = rawType.apply(object);
-            String message = createMessage(object, (satisfied ? "has " : "does not have ") + rawType.getDescription());
+            Supplier<String> message = createMessage(object, (satisfied ? "has " : "does not have ") + rawType.getDescription());
             events.add(new SimpleConditionEvent(object, satisfied, message));
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 }
@@ -44,6 +44,16 @@ class ContainAnyCondition<T> extends ArchCondition<Collection<? extends T>> {
         }
     }
 
+    @Override
+    public boolean isParallelizable() {
+        return condition.isParallelizable();
+    }
+
+    @Override
+    public boolean requiresAllowedEvents() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -33,4 +33,9 @@ class DependencyCondition extends ArchCondition<Dependency> {
     public void check(Dependency item, ConditionEvents events) {
         events.add(new SimpleConditionEvent(item, conditionPredicate.apply(item), item.getDescription()));
     }
+
+    @Override
+    public boolean requiresAllowedEvents() {
+        return false;
+    }
 }
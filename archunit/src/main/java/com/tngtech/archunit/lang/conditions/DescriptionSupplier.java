@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.conditions;
+
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.base.Supplier;
+
+/**
+ * Defers {@link HasDescription#getDescription()} to the point where the message of an event is actually needed,
+ * since e.g. the description of a {@link com.tngtech.archunit.core.domain.JavaAccess} is formatted on every call.
+ */
+class DescriptionSupplier implements Supplier<String> {
+    private final HasDescription hasDescription;
+
+    private DescriptionSupplier(HasDescription hasDescription) {
+        this.hasDescription = hasDescription;
+    }
+
+    @Override
+    public String get() {
+        return hasDescription.getDescription();
+    }
+
+    static Supplier<String> descriptionOf(HasDescription hasDescription) {
+        return new DescriptionSupplier(hasDescription);
+    }
+}
@@ -24,6 +24,7 @@ import com.tngtech.archunit.lang.SimpleConditionEvent;
 import static com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType.GET;
 import static com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType.SET;
 import static com.tngtech.archunit.core.domain.JavaFieldAccess.Predicates.accessType;
+import static com.tngtech.archunit.lang.conditions.DescriptionSupplier.descriptionOf;
 
 class FieldAccessCondition extends ArchCondition<JavaFieldAccess> {
     private final DescribedPredicate<? super JavaFieldAccess> fieldAccessIdentifier;
@@ -36,7 +37,7 @@ class FieldAccessCondition extends ArchCondition<JavaFieldAccess> {
 
     @Override
     public void check(JavaFieldAccess item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, fieldAccessIdentifier.apply(item), item.getDescription()));
+        events.add(new SimpleConditionEvent(item, fieldAccessIdentifier.apply(item), descriptionOf(item)));
     }
 
     static class FieldGetAccessCondition extends FieldAccessCondition {
@@ -50,4 +51,9 @@ class FieldAccessCondition extends ArchCondition<JavaFieldAccess> {
             super(predicate.<JavaFieldAccess>forSubtype().and(accessType(SET)));
         }
     }
+
+    @Override
+    public boolean requiresAllowedEvents() {
+        return false;
+    }
 }
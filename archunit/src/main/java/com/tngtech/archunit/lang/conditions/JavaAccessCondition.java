@@ -21,6 +21,8 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.SimpleConditionEvent;
 
+import static com.tngtech.archunit.lang.conditions.DescriptionSupplier.descriptionOf;
+
 class JavaAccessCondition<T extends JavaAccess<?>> extends ArchCondition<T> {
     private final DescribedPredicate<? super T> predicate;
 
@@ -31,6 +33,11 @@ class JavaAccessCondition<T extends JavaAccess<?>> extends ArchCondition<T> {
 
     @Override
     public void check(T item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, predicate.apply(item), item.getDescription()));
+        events.add(new SimpleConditionEvent(item, predicate.apply(item), descriptionOf(item)));
+    }
+
+    @Override
+    public boolean requiresAllowedEvents() {
+        return false;
     }
 }
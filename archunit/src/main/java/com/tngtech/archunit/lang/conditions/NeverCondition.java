@@ -50,6 +50,16 @@ class NeverCondition<T> extends ArchCondition<T> {
         }
     }
 
+    @Override
+    public boolean isParallelizable() {
+        return condition.isParallelizable();
+    }
+
+    @Override
+    public boolean requiresAllowedEvents() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -26,6 +26,7 @@ import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ClassesTransformer;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
+import com.tngtech.archunit.lang.ViolationHandler;
 
 import static com.google.common.base.Preconditions.checkState;
 
@@ -91,6 +92,16 @@ class ObjectsShouldInternal<T> implements ArchRule {
         return finishedRule.get().as(newDescription);
     }
 
+    @Override
+    public ArchRule stopAfterViolations(int maxNumberOfViolations) {
+        return finishedRule.get().stopAfterViolations(maxNumberOfViolations);
+    }
+
+    @Override
+    public ArchRule streamViolationsTo(ViolationHandler<?> violationHandler) {
+        return finishedRule.get().streamViolationsTo(violationHandler);
+    }
+
     @Override
     public String toString() {
         return finishedRule.get().getDescription();
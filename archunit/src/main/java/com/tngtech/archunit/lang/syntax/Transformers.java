@@ -15,7 +15,13 @@
  */
 package com.tngtech.archunit.lang.syntax;
 
+import java.util.Set;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.base.Function;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaCodeUnit;
@@ -26,7 +32,19 @@ import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.lang.AbstractClassesTransformer;
 import com.tngtech.archunit.lang.ClassesTransformer;
 
+import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_CODE_UNITS;
+import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_CONSTRUCTORS;
+import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_FIELDS;
+import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_MEMBERS;
+import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_METHODS;
+
 class Transformers {
+    private static final SharedTransformation<JavaMember> MEMBERS = new SharedTransformation<>(GET_MEMBERS);
+    private static final SharedTransformation<JavaField> FIELDS = new SharedTransformation<>(GET_FIELDS);
+    private static final SharedTransformation<JavaCodeUnit> CODE_UNITS = new SharedTransformation<>(GET_CODE_UNITS);
+    private static final SharedTransformation<JavaConstructor> CONSTRUCTORS = new SharedTransformation<>(GET_CONSTRUCTORS);
+    private static final SharedTransformation<JavaMethod> METHODS = new SharedTransformation<>(GET_METHODS);
+
     static ClassesTransformer<JavaClass> classes() {
         return new AbstractClassesTransformer<JavaClass>("classes") {
             @Override
@@ -37,67 +55,54 @@ class Transformers {
     }
 
     static ClassesTransformer<JavaMember> members() {
-        return new AbstractClassesTransformer<JavaMember>("members") {
-            @Override
-            public Iterable<JavaMember> doTransform(JavaClasses collection) {
-                ImmutableSet.Builder<JavaMember> result = ImmutableSet.builder();
-                for (JavaClass javaClass : collection) {
-                    result.addAll(javaClass.getMembers());
-                }
-                return result.build();
-            }
-        };
+        return MEMBERS.createTransformer("members");
     }
 
     static ClassesTransformer<JavaField> fields() {
-        return new AbstractClassesTransformer<JavaField>("fields") {
-            @Override
-            public Iterable<JavaField> doTransform(JavaClasses collection) {
-                ImmutableSet.Builder<JavaField> result = ImmutableSet.builder();
-                for (JavaClass javaClass : collection) {
-                    result.addAll(javaClass.getFields());
-                }
-                return result.build();
-            }
-        };
+        return FIELDS.createTransformer("fields");
     }
 
     static ClassesTransformer<JavaCodeUnit> codeUnits() {
-        return new AbstractClassesTransformer<JavaCodeUnit>("code units") {
-            @Override
-            public Iterable<JavaCodeUnit> doTransform(JavaClasses collection) {
-                ImmutableSet.Builder<JavaCodeUnit> result = ImmutableSet.builder();
-                for (JavaClass javaClass : collection) {
-                    result.addAll(javaClass.getCodeUnits());
-                }
-                return result.build();
-            }
-        };
+        return CODE_UNITS.createTransformer("code units");
     }
 
     static ClassesTransformer<JavaConstructor> constructors() {
-        return new AbstractClassesTransformer<JavaConstructor>("constructors") {
-            @Override
-            public Iterable<JavaConstructor> doTransform(JavaClasses collection) {
-                ImmutableSet.Builder<JavaConstructor> result = ImmutableSet.builder();
-                for (JavaClass javaClass : collection) {
-                    result.addAll(javaClass.getConstructors());
-                }
-                return result.build();
-            }
-        };
+        return CONSTRUCTORS.createTransformer("constructors");
     }
 
     static ClassesTransformer<JavaMethod> methods() {
-        return new AbstractClassesTransformer<JavaMethod>("methods") {
-            @Override
-            public Iterable<JavaMethod> doTransform(JavaClasses collection) {
-                ImmutableSet.Builder<JavaMethod> result = ImmutableSet.builder();
-                for (JavaClass javaClass : collection) {
-                    result.addAll(javaClass.getMethods());
+        return METHODS.createTransformer("methods");
+    }
+
+    /**
+     * Usually many rules are evaluated against the same {@link JavaClasses}, e.g. all rules of a test class
+     * or an {@link com.tngtech.archunit.lang.ArchRuleSet}. Instead of collecting e.g. all members of all classes
+     * again for each rule, we share the result as long as the respective {@link JavaClasses} are in use
+     * (the keys are weak, thus compared by identity and not preventing garbage collection).
+     */
+    private static class SharedTransformation<T> {
+        private final LoadingCache<JavaClasses, Set<T>> transformedByClasses;
+
+        SharedTransformation(final Function<JavaClass, ? extends Set<? extends T>> getElements) {
+            transformedByClasses = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<JavaClasses, Set<T>>() {
+                @Override
+                public Set<T> load(JavaClasses classes) {
+                    ImmutableSet.Builder<T> result = ImmutableSet.builder();
+                    for (JavaClass javaClass : classes) {
+                        result.addAll(getElements.apply(javaClass));
+                    }
+                    return result.build();
                 }
-                return result.build();
-            }
-        };
+            });
+        }
+
+        ClassesTransformer<T> createTransformer(String description) {
+            return new AbstractClassesTransformer<T>(description) {
+                @Override
+                public Iterable<T> doTransform(JavaClasses collection) {
+                    return transformedByClasses.getUnchecked(collection);
+                }
+            };
+        }
     }
 }
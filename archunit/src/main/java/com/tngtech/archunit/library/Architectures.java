@@ -18,6 +18,7 @@ package com.tngtech.archunit.library;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -27,18 +28,30 @@ import java.util.Map;
 import java.util.Set;
 
 import com.google.common.base.Joiner;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.EvaluationCost;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ArchRule.Transformation.StopAfterViolations;
+import com.tngtech.archunit.lang.ArchRule.Transformation.StreamViolationsTo;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
+import com.tngtech.archunit.lang.ViolationHandler;
 import com.tngtech.archunit.lang.syntax.PredicateAggregator;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -46,8 +59,10 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.common.collect.Lists.newArrayList;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.DescribedPredicate.alwaysFalse;
+import static com.tngtech.archunit.base.EvaluationCost.CHEAP;
 import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependency;
 import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependencyOrigin;
 import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependencyTarget;
@@ -109,6 +124,7 @@ public final class Architectures {
         private final Set<LayerDependencySpecification> dependencySpecifications;
         private final PredicateAggregator<Dependency> irrelevantDependenciesPredicate;
         private final Optional<String> overriddenDescription;
+        private final List<ArchRule.Transformation> ruleTransformations;
         private boolean optionalLayers;
 
         private LayeredArchitecture() {
@@ -116,6 +132,7 @@ public final class Architectures {
                     new LinkedHashSet<LayerDependencySpecification>(),
                     new PredicateAggregator<Dependency>().thatORs(),
                     Optional.<String>empty(),
+                    Collections.<ArchRule.Transformation>emptyList(),
                     false);
         }
 
@@ -123,11 +140,13 @@ public final class Architectures {
                 Set<LayerDependencySpecification> dependencySpecifications,
                 PredicateAggregator<Dependency> irrelevantDependenciesPredicate,
                 Optional<String> overriddenDescription,
+                List<ArchRule.Transformation> ruleTransformations,
                 boolean optionalLayers) {
             this.layerDefinitions = layerDefinitions;
             this.dependencySpecifications = dependencySpecifications;
             this.irrelevantDependenciesPredicate = irrelevantDependenciesPredicate;
             this.overriddenDescription = overriddenDescription;
+            this.ruleTransformations = ruleTransformations;
             this.optionalLayers = optionalLayers;
         }
 
@@ -203,50 +222,70 @@ public final class Architectures {
         @PublicAPI(usage = ACCESS)
         public EvaluationResult evaluate(JavaClasses classes) {
             EvaluationResult result = new EvaluationResult(this, Priority.MEDIUM);
-            checkEmptyLayers(classes, result);
+            LayerAssignment layerAssignment = new LayerAssignment(layerDefinitions, classes);
+            checkEmptyLayers(classes, layerAssignment, result);
             for (LayerDependencySpecification specification : dependencySpecifications) {
-                result.add(evaluateDependenciesShouldBeSatisfied(classes, specification));
+                result.add(evaluateDependenciesShouldBeSatisfied(classes, layerAssignment, specification));
             }
             return result;
         }
 
-        private void checkEmptyLayers(JavaClasses classes, EvaluationResult result) {
+        private void checkEmptyLayers(JavaClasses classes, LayerAssignment layerAssignment, EvaluationResult result) {
             if (!optionalLayers) {
                 for (LayerDefinition layerDefinition : layerDefinitions) {
                     if (!layerDefinition.isOptional()) {
-                        result.add(evaluateLayersShouldNotBeEmpty(classes, layerDefinition));
+                        result.add(evaluateLayersShouldNotBeEmpty(classes, layerAssignment, layerDefinition));
                     }
                 }
             }
         }
 
-        private EvaluationResult evaluateLayersShouldNotBeEmpty(JavaClasses classes, LayerDefinition layerDefinition) {
-            return classes().that(layerDefinitions.containsPredicateFor(layerDefinition.name))
-                    .should(notBeEmptyFor(layerDefinition))
+        private EvaluationResult evaluateLayersShouldNotBeEmpty(JavaClasses classes, LayerAssignment layerAssignment, LayerDefinition layerDefinition) {
+            return applyRuleTransformations(classes().that(layerAssignment.containsPredicateFor(layerDefinition.name))
+                    .should(notBeEmptyFor(layerDefinition)))
                     .evaluate(classes);
         }
 
-        private EvaluationResult evaluateDependenciesShouldBeSatisfied(JavaClasses classes, LayerDependencySpecification specification) {
+        private EvaluationResult evaluateDependenciesShouldBeSatisfied(JavaClasses classes, LayerAssignment layerAssignment,
+                LayerDependencySpecification specification) {
             ArchCondition<JavaClass> satisfyLayerDependenciesCondition = specification.constraint == LayerDependencyConstraint.ORIGIN
-                    ? onlyHaveDependentsWhere(originMatchesIfDependencyIsRelevant(specification.layerName, specification.allowedLayers))
-                    : onlyHaveDependenciesWhere(targetMatchesIfDependencyIsRelevant(specification.layerName, specification.allowedLayers));
-            return classes().that(layerDefinitions.containsPredicateFor(specification.layerName))
-                    .should(satisfyLayerDependenciesCondition)
+                    ? onlyHaveDependentsWhere(originMatchesIfDependencyIsRelevant(layerAssignment, specification.layerName, specification.allowedLayers))
+                    : onlyHaveDependenciesWhere(targetMatchesIfDependencyIsRelevant(layerAssignment, specification.layerName, specification.allowedLayers));
+            return applyRuleTransformations(classes().that(layerAssignment.containsPredicateFor(specification.layerName))
+                    .should(satisfyLayerDependenciesCondition))
                     .evaluate(classes);
         }
 
-        private DescribedPredicate<Dependency> originMatchesIfDependencyIsRelevant(String ownLayer, Set<String> allowedAccessors) {
+        private ArchRule applyRuleTransformations(ArchRule rule) {
+            ArchRule result = rule;
+            for (ArchRule.Transformation transformation : ruleTransformations) {
+                result = transformation.apply(result);
+            }
+            return result;
+        }
+
+        private LayeredArchitecture withRuleTransformation(ArchRule.Transformation transformation) {
+            List<ArchRule.Transformation> newRuleTransformations = new ArrayList<>(ruleTransformations);
+            newRuleTransformations.add(transformation);
+            return new LayeredArchitecture(
+                    layerDefinitions, dependencySpecifications,
+                    irrelevantDependenciesPredicate, overriddenDescription, newRuleTransformations, optionalLayers);
+        }
+
+        private DescribedPredicate<Dependency> originMatchesIfDependencyIsRelevant(
+                LayerAssignment layerAssignment, String ownLayer, Set<String> allowedAccessors) {
             DescribedPredicate<Dependency> originPackageMatches =
-                    dependencyOrigin(layerDefinitions.containsPredicateFor(allowedAccessors))
-                            .or(dependencyOrigin(layerDefinitions.containsPredicateFor(ownLayer)));
+                    dependencyOrigin(layerAssignment.containsPredicateFor(allowedAccessors))
+                            .or(dependencyOrigin(layerAssignment.containsPredicateFor(ownLayer)));
 
             return ifDependencyIsRelevant(originPackageMatches);
         }
 
-        private DescribedPredicate<Dependency> targetMatchesIfDependencyIsRelevant(String ownLayer, Set<String> allowedTargets) {
+        private DescribedPredicate<Dependency> targetMatchesIfDependencyIsRelevant(
+                LayerAssignment layerAssignment, String ownLayer, Set<String> allowedTargets) {
             DescribedPredicate<Dependency> targetPackageMatches =
-                    dependencyTarget(layerDefinitions.containsPredicateFor(allowedTargets))
-                            .or(dependencyTarget(layerDefinitions.containsPredicateFor(ownLayer)));
+                    dependencyTarget(layerAssignment.containsPredicateFor(allowedTargets))
+                            .or(dependencyTarget(layerAssignment.containsPredicateFor(ownLayer)));
 
             return ifDependencyIsRelevant(targetPackageMatches);
         }
@@ -281,6 +320,11 @@ public final class Architectures {
                     events.add(violated(layerDefinition, String.format("Layer '%s' is empty", layerDefinition.name)));
                 }
             }
+
+            @Override
+            public boolean requiresAllowedEvents() {
+                return false;
+            }
         }
 
         @Override
@@ -300,7 +344,30 @@ public final class Architectures {
         public LayeredArchitecture as(String newDescription) {
             return new LayeredArchitecture(
                     layerDefinitions, dependencySpecifications,
-                    irrelevantDependenciesPredicate, Optional.of(newDescription), optionalLayers);
+                    irrelevantDependenciesPredicate, Optional.of(newDescription), ruleTransformations, optionalLayers);
+        }
+
+        /**
+         * @see ArchRule#stopAfterViolations(int)
+         * @return A {@link LayeredArchitecture} where each layer dependency specification stops its evaluation
+         *         after the given number of violations
+         */
+        @Override
+        @PublicAPI(usage = ACCESS)
+        public LayeredArchitecture stopAfterViolations(int maxNumberOfViolations) {
+            checkArgument(maxNumberOfViolations > 0, "Maximum number of violations must be positive, but was %s", maxNumberOfViolations);
+            return withRuleTransformation(new StopAfterViolations(maxNumberOfViolations));
+        }
+
+        /**
+         * @see ArchRule#streamViolationsTo(ViolationHandler)
+         * @return A {@link LayeredArchitecture} where each layer dependency specification streams its violations
+         *         to the given {@link ViolationHandler}
+         */
+        @Override
+        @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+        public LayeredArchitecture streamViolationsTo(ViolationHandler<?> violationHandler) {
+            return withRuleTransformation(new StreamViolationsTo(checkNotNull(violationHandler)));
         }
 
         /**
@@ -332,7 +399,7 @@ public final class Architectures {
                 DescribedPredicate<? super JavaClass> origin, DescribedPredicate<? super JavaClass> target) {
             return new LayeredArchitecture(
                     layerDefinitions, dependencySpecifications,
-                    irrelevantDependenciesPredicate.add(dependency(origin, target)), overriddenDescription, optionalLayers);
+                    irrelevantDependenciesPredicate.add(dependency(origin, target)), overriddenDescription, ruleTransformations, optionalLayers);
         }
 
         /**
@@ -390,10 +457,91 @@ public final class Architectures {
             }
         }
 
+        /**
+         * Assigns every class to the layers containing it exactly once per evaluation. Thus the (possibly expensive)
+         * layer predicates are not reevaluated for every dependency and every layer dependency specification,
+         * but membership checks become simple lookups. Classes outside of the evaluated {@link JavaClasses}
+         * (e.g. targets of dependencies) are assigned on first use.<br>
+         * The package identifiers of all layers defined by packages are matched together by one {@link PackageMatchers},
+         * i.e. a single pass over the package name of a class determines all those layers at once.
+         */
+        private static final class LayerAssignment {
+            private final LayerDefinitions layerDefinitions;
+            private final SetMultimap<String, String> layerNamesByPackageIdentifier = LinkedHashMultimap.create();
+            private final List<LayerDefinition> layersDefinedByPredicate = new ArrayList<>();
+            private final PackageMatchers packageIdentifiersOfAllLayers;
+            private final LoadingCache<JavaClass, Set<String>> layerNamesByClass;
+
+            LayerAssignment(LayerDefinitions layerDefinitions, JavaClasses classes) {
+                this.layerDefinitions = layerDefinitions;
+                for (LayerDefinition definition : layerDefinitions) {
+                    if (definition.packageIdentifiers().isPresent()) {
+                        for (String packageIdentifier : definition.packageIdentifiers().get()) {
+                            layerNamesByPackageIdentifier.put(packageIdentifier, definition.name);
+                        }
+                    } else {
+                        layersDefinedByPredicate.add(definition);
+                    }
+                }
+                this.packageIdentifiersOfAllLayers = PackageMatchers.of(layerNamesByPackageIdentifier.keySet());
+                this.layerNamesByClass = CacheBuilder.newBuilder().build(new CacheLoader<JavaClass, Set<String>>() {
+                    @Override
+                    public Set<String> load(JavaClass clazz) {
+                        return layerNamesContaining(clazz);
+                    }
+                });
+                for (JavaClass javaClass : classes) {
+                    layerNamesByClass.getUnchecked(javaClass);
+                }
+            }
+
+            private Set<String> layerNamesContaining(JavaClass clazz) {
+                ImmutableSet.Builder<String> result = ImmutableSet.builder();
+                for (String packageIdentifier : packageIdentifiersOfAllLayers.getMatchingPackageIdentifiers(clazz.getPackageName())) {
+                    result.addAll(layerNamesByPackageIdentifier.get(packageIdentifier));
+                }
+                for (LayerDefinition definition : layersDefinedByPredicate) {
+                    if (definition.containsPredicate().apply(clazz)) {
+                        result.add(definition.name);
+                    }
+                }
+                return result.build();
+            }
+
+            DescribedPredicate<JavaClass> containsPredicateFor(String layerName) {
+                return containsPredicateFor(singleton(layerName));
+            }
+
+            DescribedPredicate<JavaClass> containsPredicateFor(Collection<String> layerNames) {
+                String description = layerDefinitions.containsPredicateFor(layerNames).getDescription();
+                return new ContainedInAnyLayerPredicate(description, ImmutableSet.copyOf(layerNames));
+            }
+
+            private class ContainedInAnyLayerPredicate extends DescribedPredicate<JavaClass> {
+                private final Set<String> layerNames;
+
+                ContainedInAnyLayerPredicate(String description, Set<String> layerNames) {
+                    super(description);
+                    this.layerNames = layerNames;
+                }
+
+                @Override
+                public boolean apply(JavaClass input) {
+                    return !Collections.disjoint(layerNamesByClass.getUnchecked(input), layerNames);
+                }
+
+                @Override
+                public EvaluationCost getEvaluationCost() {
+                    return CHEAP;
+                }
+            }
+        }
+
         public final class LayerDefinition {
             private final String name;
             private final boolean optional;
             private DescribedPredicate<JavaClass> containsPredicate;
+            private Optional<List<String>> packageIdentifiers = Optional.empty();
 
             private LayerDefinition(String name, boolean optional) {
                 checkState(!isNullOrEmpty(name), "Layer name must be present");
@@ -407,8 +555,7 @@ public final class Architectures {
             @PublicAPI(usage = ACCESS)
             public LayeredArchitecture definedBy(DescribedPredicate<? super JavaClass> predicate) {
                 checkNotNull(predicate, "Supplied predicate must not be null");
-                this.containsPredicate = predicate.forSubtype();
-                return LayeredArchitecture.this.addLayerDefinition(this);
+                return define(predicate.<JavaClass>forSubtype(), Optional.<List<String>>empty());
             }
 
             /**
@@ -417,7 +564,14 @@ public final class Architectures {
             @PublicAPI(usage = ACCESS)
             public LayeredArchitecture definedBy(String... packageIdentifiers) {
                 String description = String.format("'%s'", Joiner.on("', '").join(packageIdentifiers));
-                return definedBy(resideInAnyPackage(packageIdentifiers).as(description));
+                return define(resideInAnyPackage(packageIdentifiers).as(description),
+                        Optional.<List<String>>of(ImmutableList.copyOf(packageIdentifiers)));
+            }
+
+            private LayeredArchitecture define(DescribedPredicate<JavaClass> containsPredicate, Optional<List<String>> packageIdentifiers) {
+                this.containsPredicate = containsPredicate;
+                this.packageIdentifiers = packageIdentifiers;
+                return LayeredArchitecture.this.addLayerDefinition(this);
             }
 
             boolean isOptional() {
@@ -428,6 +582,10 @@ public final class Architectures {
                 return containsPredicate;
             }
 
+            Optional<List<String>> packageIdentifiers() {
+                return packageIdentifiers;
+            }
+
             @Override
             public String toString() {
                 return String.format("%slayer '%s' (%s)", optional ? "optional " : "", name, containsPredicate);
@@ -522,6 +680,7 @@ public final class Architectures {
         private static final String ADAPTER_LAYER = "adapter";
 
         private final Optional<String> overriddenDescription;
+        private final List<ArchRule.Transformation> ruleTransformations;
         private String[] domainModelPackageIdentifiers = new String[0];
         private String[] domainServicePackageIdentifiers = new String[0];
         private String[] applicationPackageIdentifiers = new String[0];
@@ -531,6 +690,7 @@ public final class Architectures {
 
         private OnionArchitecture() {
             overriddenDescription = Optional.empty();
+            ruleTransformations = new ArrayList<>();
         }
 
         private OnionArchitecture(String[] domainModelPackageIdentifiers,
@@ -538,13 +698,15 @@ public final class Architectures {
                 String[] applicationPackageIdentifiers,
                 Map<String, String[]> adapterPackageIdentifiers,
                 List<IgnoredDependency> ignoredDependencies,
-                Optional<String> overriddenDescription) {
+                Optional<String> overriddenDescription,
+                List<ArchRule.Transformation> ruleTransformations) {
             this.domainModelPackageIdentifiers = domainModelPackageIdentifiers;
             this.domainServicePackageIdentifiers = domainServicePackageIdentifiers;
             this.applicationPackageIdentifiers = applicationPackageIdentifiers;
             this.adapterPackageIdentifiers = adapterPackageIdentifiers;
             this.ignoredDependencies = ignoredDependencies;
             this.overriddenDescription = overriddenDescription;
+            this.ruleTransformations = ruleTransformations;
         }
 
         @PublicAPI(usage = ACCESS)
@@ -613,6 +775,9 @@ public final class Architectures {
             for (IgnoredDependency ignoredDependency : this.ignoredDependencies) {
                 layeredArchitectureDelegate = ignoredDependency.ignoreFor(layeredArchitectureDelegate);
             }
+            for (ArchRule.Transformation transformation : ruleTransformations) {
+                layeredArchitectureDelegate = layeredArchitectureDelegate.withRuleTransformation(transformation);
+            }
             return layeredArchitectureDelegate.as(getDescription());
         }
 
@@ -642,7 +807,36 @@ public final class Architectures {
         public OnionArchitecture as(String newDescription) {
             return new OnionArchitecture(domainModelPackageIdentifiers, domainServicePackageIdentifiers,
                     applicationPackageIdentifiers, adapterPackageIdentifiers, ignoredDependencies,
-                    Optional.of(newDescription));
+                    Optional.of(newDescription), ruleTransformations);
+        }
+
+        /**
+         * @see ArchRule#stopAfterViolations(int)
+         * @see LayeredArchitecture#stopAfterViolations(int)
+         */
+        @Override
+        public OnionArchitecture stopAfterViolations(int maxNumberOfViolations) {
+            checkArgument(maxNumberOfViolations > 0, "Maximum number of violations must be positive, but was %s", maxNumberOfViolations);
+            return withRuleTransformation(new StopAfterViolations(maxNumberOfViolations));
+        }
+
+        /**
+         * @see ArchRule#streamViolationsTo(ViolationHandler)
+         * @see LayeredArchitecture#streamViolationsTo(ViolationHandler)
+         */
+        @Override
+        public OnionArchitecture streamViolationsTo(ViolationHandler<?> violationHandler) {
+            return withRuleTransformation(new StreamViolationsTo(checkNotNull(violationHandler)));
+        }
+
+        private OnionArchitecture withRuleTransformation(ArchRule.Transformation transformation) {
+            List<ArchRule.Transformation> newRuleTransformations = new ArrayList<>(ruleTransformations);
+            newRuleTransformations.add(transformation);
+            OnionArchitecture result = new OnionArchitecture(domainModelPackageIdentifiers, domainServicePackageIdentifiers,
+                    applicationPackageIdentifiers, adapterPackageIdentifiers, ignoredDependencies,
+                    overriddenDescription, newRuleTransformations);
+            result.optionalLayers = optionalLayers;
+            return result;
         }
 
         @Override
@@ -135,5 +135,10 @@ public final class DependencyRules {
             String targetSubPackagePrefix = target.getPackageName() + ".";
             return originPackageName.startsWith(targetSubPackagePrefix);
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 }
@@ -19,6 +19,7 @@ import java.lang.annotation.Annotation;
 
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.Supplier;
 import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaMethodCall;
@@ -166,11 +167,21 @@ public final class ProxyRules {
         return new ArchCondition<JavaClass>("directly call other methods declared in the same class that " + predicate.getDescription()) {
             @Override
             public void check(JavaClass javaClass, ConditionEvents events) {
-                for (JavaMethodCall call : javaClass.getMethodCallsFromSelf()) {
+                for (final JavaMethodCall call : javaClass.getMethodCallsFromSelf()) {
                     boolean satisfied = call.getOriginOwner().equals(call.getTargetOwner()) && predicate.apply(call.getTarget());
-                    events.add(new SimpleConditionEvent(call, satisfied, call.getDescription()));
+                    events.add(new SimpleConditionEvent(call, satisfied, new Supplier<String>() {
+                        @Override
+                        public String get() {
+                            return call.getDescription();
+                        }
+                    }));
                 }
             }
+
+            @Override
+            public boolean requiresAllowedEvents() {
+                return false;
+            }
         };
     }
 }
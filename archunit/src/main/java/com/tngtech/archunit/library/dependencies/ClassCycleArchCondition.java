@@ -0,0 +1,150 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+
+/**
+ * Detects cycles between single classes. Since the number of classes can be huge, the graph is kept as {@link PrimitiveGraph}
+ * with one int id per class, where each class only stores the distinct ids of its dependency targets. The {@link Dependency Dependencies}
+ * are only looked up again for the edges of cycles that are actually reported.
+ */
+class ClassCycleArchCondition extends ArchCondition<JavaClass> {
+    private static final int[] NO_TARGETS = new int[0];
+
+    private Map<JavaClass, Integer> classIds;
+    private JavaClass[] classes;
+    private int[][] edges;
+    private CycleEventRecorder<JavaClass> eventRecorder;
+
+    ClassCycleArchCondition() {
+        super("be free of cycles");
+    }
+
+    @Override
+    public void init(Iterable<JavaClass> allClasses) {
+        classIds = new HashMap<>();
+        for (JavaClass clazz : allClasses) {
+            if (!classIds.containsKey(clazz)) {
+                classIds.put(clazz, classIds.size());
+            }
+        }
+        classes = new JavaClass[classIds.size()];
+        for (Map.Entry<JavaClass, Integer> classWithId : classIds.entrySet()) {
+            classes[classWithId.getValue()] = classWithId.getKey();
+        }
+        edges = new int[classes.length][];
+        Arrays.fill(edges, NO_TARGETS);
+        eventRecorder = new CycleEventRecorder<>(new Function<JavaClass, String>() {
+            @Override
+            public String apply(JavaClass clazz) {
+                return clazz.getDescription();
+            }
+        });
+    }
+
+    @Override
+    public void check(JavaClass clazz, ConditionEvents events) {
+        int classId = classIds.get(clazz);
+        edges[classId] = targetIdsOf(classId, clazz);
+    }
+
+    private int[] targetIdsOf(int classId, JavaClass clazz) {
+        int[] targetIds = new int[clazz.getDirectDependenciesFromSelf().size()];
+        int numberOfTargets = 0;
+        for (Dependency dependency : clazz.getDirectDependenciesFromSelf()) {
+            Integer targetId = classIds.get(dependency.getTargetClass());
+            if (targetId != null && targetId != classId) {
+                targetIds[numberOfTargets++] = targetId;
+            }
+        }
+        return distinct(targetIds, numberOfTargets);
+    }
+
+    private static int[] distinct(int[] values, int length) {
+        if (length == 0) {
+            return NO_TARGETS;
+        }
+        Arrays.sort(values, 0, length);
+        int numberOfDistinctValues = 1;
+        for (int i = 1; i < length; i++) {
+            if (values[i] != values[numberOfDistinctValues - 1]) {
+                values[numberOfDistinctValues++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, numberOfDistinctValues);
+    }
+
+    @Override
+    public void finish(final ConditionEvents events) {
+        JohnsonCycleFinder.Result cycles = Graph.findRawCycles(new PrimitiveGraph(edges), new JohnsonCycleFinder.CycleListener() {
+            @Override
+            public void onCycleFound(int[] rawCycle) {
+                eventRecorder.record(toCycle(rawCycle), events);
+            }
+        });
+        eventRecorder.recordSearchLimits(cycles, events);
+        releaseResources();
+    }
+
+    private Cycle<JavaClass, Dependency> toCycle(int[] rawCycle) {
+        ImmutableList.Builder<Edge<JavaClass, Dependency>> cycleEdges = ImmutableList.builder();
+        for (int i = 0; i < rawCycle.length; i++) {
+            JavaClass origin = classes[rawCycle[i]];
+            JavaClass target = classes[rawCycle[(i + 1) % rawCycle.length]];
+            cycleEdges.add(new Edge<>(origin, target, dependenciesBetween(origin, target)));
+        }
+        return new Cycle<>(cycleEdges.build());
+    }
+
+    private SortedSet<Dependency> dependenciesBetween(JavaClass origin, JavaClass target) {
+        SortedSet<Dependency> result = new TreeSet<>();
+        for (Dependency dependency : origin.getDirectDependenciesFromSelf()) {
+            if (dependency.getTargetClass().equals(target)) {
+                result.add(dependency);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isParallelizable() {
+        return false;
+    }
+
+    @Override
+    public boolean requiresAllowedEvents() {
+        return false;
+    }
+
+    private void releaseResources() {
+        classIds = null;
+        classes = null;
+        edges = null;
+        eventRecorder = null;
+    }
+}
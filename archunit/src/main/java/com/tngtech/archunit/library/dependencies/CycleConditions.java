@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Provides {@link ArchCondition ArchConditions} to detect cycles on the granularity of single classes,
+ * e.g.
+ * <pre><code>
+ * {@link com.tngtech.archunit.lang.syntax.ArchRuleDefinition#classes() classes()}.{@link com.tngtech.archunit.lang.syntax.elements.GivenClasses#should(ArchCondition) should}({@link #beFreeOfCycles() beFreeOfCycles()})
+ * </code></pre>
+ * To detect cycles between groups of classes (like packages) see {@link SlicesRuleDefinition}.
+ */
+@PublicAPI(usage = ACCESS)
+public final class CycleConditions {
+    private CycleConditions() {
+    }
+
+    /**
+     * Detects cycles between the classes under test, considering all
+     * {@link JavaClass#getDirectDependenciesFromSelf() direct dependencies} between them.
+     * Dependencies to classes that are not under test are ignored.
+     * <br><br>
+     * The cycle search works on plain integer ids of the classes and is thus able to handle class graphs
+     * with hundreds of thousands of classes. The {@link com.tngtech.archunit.core.domain.Dependency Dependencies}
+     * are only collected for the edges of reported cycles. All configuration of the cycle search
+     * (e.g. {@code cycles.maxNumberToDetect} or {@code cycles.detectionStrategy}) applies like for
+     * {@link com.tngtech.archunit.library.dependencies.syntax.SlicesShould#beFreeOfCycles() slices}.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public static ArchCondition<JavaClass> beFreeOfCycles() {
+        return new ClassCycleArchCondition();
+    }
+}
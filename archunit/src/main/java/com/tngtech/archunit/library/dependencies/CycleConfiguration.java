@@ -15,6 +15,8 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.Arrays;
+
 import com.tngtech.archunit.ArchConfiguration;
 
 final class CycleConfiguration {
@@ -22,9 +24,21 @@ final class CycleConfiguration {
     private static final String MAX_NUMBER_OF_CYCLES_TO_DETECT_DEFAULT_VALUE = "100";
     static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME = "cycles.maxNumberOfDependenciesPerEdge";
     private static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE = "20";
+    static final String MAX_DETECTION_TIME_MILLIS_PROPERTY_NAME = "cycles.maxDetectionTimeMillis";
+    private static final String MAX_DETECTION_TIME_MILLIS_DEFAULT_VALUE = String.valueOf(Long.MAX_VALUE);
+    static final String PARALLEL_EDGE_EXTRACTION_PROPERTY_NAME = "cycles.parallelEdgeExtraction";
+    private static final String PARALLEL_EDGE_EXTRACTION_DEFAULT_VALUE = "false";
+    static final String PARALLEL_CYCLE_SEARCH_PROPERTY_NAME = "cycles.parallelSearch";
+    private static final String PARALLEL_CYCLE_SEARCH_DEFAULT_VALUE = "false";
+    static final String DETECTION_STRATEGY_PROPERTY_NAME = "cycles.detectionStrategy";
+    private static final String DETECTION_STRATEGY_DEFAULT_VALUE = DetectionStrategy.ALL_CYCLES.name();
 
     private final int maxCyclesToDetect;
     private final int maxDependenciesPerEdge;
+    private final long maxDetectionTimeMillis;
+    private final boolean parallelEdgeExtractionEnabled;
+    private final boolean parallelCycleSearchEnabled;
+    private final DetectionStrategy detectionStrategy;
 
     CycleConfiguration() {
         String configuredMaxCyclesToDetect = ArchConfiguration.get()
@@ -35,6 +49,31 @@ final class CycleConfiguration {
                 .getPropertyOrDefault(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME,
                         MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE);
         maxDependenciesPerEdge = Integer.parseInt(configuredMaxDependenciesPerEdge);
+
+        String configuredMaxDetectionTimeMillis = ArchConfiguration.get()
+                .getPropertyOrDefault(MAX_DETECTION_TIME_MILLIS_PROPERTY_NAME, MAX_DETECTION_TIME_MILLIS_DEFAULT_VALUE);
+        maxDetectionTimeMillis = Long.parseLong(configuredMaxDetectionTimeMillis);
+
+        String configuredParallelEdgeExtraction = ArchConfiguration.get()
+                .getPropertyOrDefault(PARALLEL_EDGE_EXTRACTION_PROPERTY_NAME, PARALLEL_EDGE_EXTRACTION_DEFAULT_VALUE);
+        parallelEdgeExtractionEnabled = Boolean.parseBoolean(configuredParallelEdgeExtraction);
+
+        String configuredParallelCycleSearch = ArchConfiguration.get()
+                .getPropertyOrDefault(PARALLEL_CYCLE_SEARCH_PROPERTY_NAME, PARALLEL_CYCLE_SEARCH_DEFAULT_VALUE);
+        parallelCycleSearchEnabled = Boolean.parseBoolean(configuredParallelCycleSearch);
+
+        String configuredDetectionStrategy = ArchConfiguration.get()
+                .getPropertyOrDefault(DETECTION_STRATEGY_PROPERTY_NAME, DETECTION_STRATEGY_DEFAULT_VALUE);
+        detectionStrategy = parseDetectionStrategy(configuredDetectionStrategy);
+    }
+
+    private static DetectionStrategy parseDetectionStrategy(String configuredDetectionStrategy) {
+        try {
+            return DetectionStrategy.valueOf(configuredDetectionStrategy);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Unknown cycle detection strategy '%s=%s', supported strategies are %s",
+                    DETECTION_STRATEGY_PROPERTY_NAME, configuredDetectionStrategy, Arrays.toString(DetectionStrategy.values())), e);
+        }
     }
 
     int getMaxNumberOfCyclesToDetect() {
@@ -44,4 +83,31 @@ final class CycleConfiguration {
     int getMaxNumberOfDependenciesToShowPerEdge() {
         return maxDependenciesPerEdge;
     }
+
+    long getMaxDetectionTimeMillis() {
+        return maxDetectionTimeMillis;
+    }
+
+    boolean isParallelEdgeExtractionEnabled() {
+        return parallelEdgeExtractionEnabled;
+    }
+
+    boolean isParallelCycleSearchEnabled() {
+        return parallelCycleSearchEnabled;
+    }
+
+    DetectionStrategy getDetectionStrategy() {
+        return detectionStrategy;
+    }
+
+    enum DetectionStrategy {
+        /**
+         * Enumerates all elementary cycles (compare {@link JohnsonCycleFinder})
+         */
+        ALL_CYCLES,
+        /**
+         * Only reports one shortest cycle through each edge that is part of any cycle (compare {@link ShortestCycleFinder})
+         */
+        SHORTEST_CYCLE_PER_EDGE
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Function;
+import com.google.common.base.Joiner;
+import com.google.common.base.Strings;
+import com.google.common.collect.Ordering;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.lang.ConditionEvent;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_DETECTION_TIME_MILLIS_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
+import static java.lang.System.lineSeparator;
+
+/**
+ * Records every detected {@link Cycle} as violation, describing the nodes of the cycle and the dependencies of each edge.
+ */
+class CycleEventRecorder<T> {
+    private static final Logger log = LoggerFactory.getLogger(CycleEventRecorder.class);
+
+    private static final String CYCLE_DETECTED_SECTION_INTRO = "Cycle detected: ";
+    private static final String DEPENDENCY_DETAILS_INDENT = Strings.repeat(" ", 4);
+
+    private final CycleConfiguration cycleConfiguration = new CycleConfiguration();
+    private final Function<? super T, String> describeNode;
+    private final Function<Edge<T, Dependency>, String> describeFromNode = new Function<Edge<T, Dependency>, String>() {
+        @Override
+        public String apply(Edge<T, Dependency> input) {
+            return describeNode.apply(input.getFrom());
+        }
+    };
+
+    CycleEventRecorder(Function<? super T, String> describeNode) {
+        this.describeNode = describeNode;
+        log.debug("Maximum number of dependencies to report per edge is set to {}; "
+                        + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
+                cycleConfiguration.getMaxNumberOfDependenciesToShowPerEdge(), MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME);
+    }
+
+    void record(Cycle<T, Dependency> cycle, ConditionEvents events) {
+        events.add(newEvent(cycle));
+    }
+
+    void recordSearchLimits(JohnsonCycleFinder.Result cycles, ConditionEvents events) {
+        if (cycles.maxNumberOfCyclesReached()) {
+            events.setInformationAboutIncompleteNumberOfViolations(cycles.getNumberOfCycles(), String.format(
+                    " >= %d times - the maximum number of cycles to detect has been reached; "
+                            + "this limit can be adapted using the `archunit.properties` value `%s=xxx`",
+                    cycles.getNumberOfCycles(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME));
+        } else if (cycles.maxDetectionTimeExceeded()) {
+            events.setInformationAboutIncompleteNumberOfViolations(cycles.getNumberOfCycles(), String.format(
+                    " >= %d times - the maximum time to detect cycles has been exceeded; "
+                            + "this limit can be adapted using the `archunit.properties` value `%s=xxx`",
+                    cycles.getNumberOfCycles(), MAX_DETECTION_TIME_MILLIS_PROPERTY_NAME));
+        }
+    }
+
+    private ConditionEvent newEvent(Cycle<T, Dependency> cycle) {
+        Map<String, Edge<T, Dependency>> descriptionsToEdges = sortEdgesByDescription(cycle);
+        String description = createDescription(descriptionsToEdges.keySet(), CYCLE_DETECTED_SECTION_INTRO.length());
+        String details = createDetails(descriptionsToEdges);
+        return new SimpleConditionEvent(cycle,
+                false,
+                CYCLE_DETECTED_SECTION_INTRO + description + lineSeparator() + details);
+    }
+
+    private Map<String, Edge<T, Dependency>> sortEdgesByDescription(Cycle<T, Dependency> cycle) {
+        LinkedList<Edge<T, Dependency>> edges = new LinkedList<>(cycle.getEdges());
+        Edge<T, Dependency> startEdge = Ordering.natural().onResultOf(describeFromNode).min(edges);
+        while (!edges.getFirst().equals(startEdge)) {
+            edges.addLast(edges.pollFirst());
+        }
+        Map<String, Edge<T, Dependency>> descriptionToEdge = new LinkedHashMap<>();
+        for (Edge<T, Dependency> edge : edges) {
+            descriptionToEdge.put(describeFromNode.apply(edge), edge);
+        }
+        return descriptionToEdge;
+    }
+
+    private String createDescription(Collection<String> edgeDescriptions, int indent) {
+        List<String> descriptions = new ArrayList<>(edgeDescriptions);
+        descriptions.add(descriptions.get(0));
+        return Joiner.on(" -> " + lineSeparator() + Strings.repeat(" ", indent)).join(descriptions);
+    }
+
+    private String createDetails(Map<String, Edge<T, Dependency>> descriptionsToEdges) {
+        List<String> details = new ArrayList<>();
+        int edgeIndex = 0;
+        for (Map.Entry<String, Edge<T, Dependency>> edgeWithDescription : descriptionsToEdges.entrySet()) {
+            ++edgeIndex;
+            details.add(String.format("  %d. Dependencies of %s", edgeIndex, edgeWithDescription.getKey()));
+            details.addAll(dependenciesDescription(edgeWithDescription.getValue()));
+        }
+        return Joiner.on(lineSeparator()).join(details);
+    }
+
+    private List<String> dependenciesDescription(Edge<T, Dependency> edge) {
+        List<String> result = new ArrayList<>();
+        int maxDependencies = cycleConfiguration.getMaxNumberOfDependenciesToShowPerEdge();
+        List<Dependency> allDependencies = edge.getAttachments();
+        boolean tooManyDependenciesToDisplay = allDependencies.size() > maxDependencies;
+        List<Dependency> dependenciesToDisplay = tooManyDependenciesToDisplay ? allDependencies.subList(0, maxDependencies) : allDependencies;
+        for (Dependency dependency : dependenciesToDisplay) {
+            result.add(DEPENDENCY_DETAILS_INDENT + "- " + dependency.getDescription());
+        }
+        if (tooManyDependenciesToDisplay) {
+            result.add(DEPENDENCY_DETAILS_INDENT + String.format("(%d further dependencies have been omitted...)",
+                    allDependencies.size() - dependenciesToDisplay.size()));
+        }
+        return result;
+    }
+}
@@ -120,5 +120,10 @@ class GivenSlicesInternal implements GivenSlices, SlicesShould, GivenSlicesConju
                 events.add(SimpleConditionEvent.violated(dependency, dependency.getDescription()));
             }
         }
+
+        @Override
+        public boolean requiresAllowedEvents() {
+            return false;
+        }
     }
 }
@@ -28,6 +28,7 @@ import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.DetectionStrategy.SHORTEST_CYCLE_PER_EDGE;
 
 class Graph<T, ATTACHMENT> {
     private final Map<T, Integer> nodes = new HashMap<>();
@@ -50,14 +51,38 @@ class Graph<T, ATTACHMENT> {
     }
 
     Cycles<T, ATTACHMENT> findCycles() {
-        Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex = indexEdgesByTargetIndexByOriginIndex(nodes, outgoingEdges);
-        JohnsonCycleFinder johnsonCycleFinder = new JohnsonCycleFinder(createPrimitiveGraph());
-        ImmutableList.Builder<Cycle<T, ATTACHMENT>> result = ImmutableList.builder();
-        JohnsonCycleFinder.Result cycles = johnsonCycleFinder.findCycles();
-        for (int[] rawCycle : cycles) {
-            result.add(mapToCycle(edgesByTargetIndexByOriginIndex, rawCycle));
-        }
-        return new Cycles<>(result.build(), cycles.maxNumberOfCyclesReached());
+        final ImmutableList.Builder<Cycle<T, ATTACHMENT>> result = ImmutableList.builder();
+        JohnsonCycleFinder.Result cycles = findCycles(new CycleHandler<T, ATTACHMENT>() {
+            @Override
+            public void handle(Cycle<T, ATTACHMENT> cycle) {
+                result.add(cycle);
+            }
+        });
+        return new Cycles<>(result.build(), cycles.maxNumberOfCyclesReached(), cycles.maxDetectionTimeExceeded());
+    }
+
+    /**
+     * Passes each cycle to {@code handler} as soon as it has been found, instead of collecting all cycles first.
+     * @return the {@link JohnsonCycleFinder.Result} telling how many cycles have been found and if the search was stopped early
+     */
+    JohnsonCycleFinder.Result findCycles(final CycleHandler<T, ATTACHMENT> handler) {
+        final Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex = indexEdgesByTargetIndexByOriginIndex(nodes, outgoingEdges);
+        JohnsonCycleFinder.CycleListener listener = new JohnsonCycleFinder.CycleListener() {
+            @Override
+            public void onCycleFound(int[] rawCycle) {
+                handler.handle(mapToCycle(edgesByTargetIndexByOriginIndex, rawCycle));
+            }
+        };
+        return findRawCycles(createPrimitiveGraph(), listener);
+    }
+
+    /**
+     * Searches the cycles of {@code primitiveGraph} according to the configured {@link CycleConfiguration.DetectionStrategy}.
+     */
+    static JohnsonCycleFinder.Result findRawCycles(PrimitiveGraph primitiveGraph, JohnsonCycleFinder.CycleListener listener) {
+        return new CycleConfiguration().getDetectionStrategy() == SHORTEST_CYCLE_PER_EDGE
+                ? new ShortestCycleFinder(primitiveGraph).findCycles(listener)
+                : new JohnsonCycleFinder(primitiveGraph).findCycles(listener);
     }
 
     private PrimitiveGraph createPrimitiveGraph() {
@@ -108,19 +133,29 @@ class Graph<T, ATTACHMENT> {
                 '}';
     }
 
+    interface CycleHandler<T, ATTACHMENT> {
+        void handle(Cycle<T, ATTACHMENT> cycle);
+    }
+
     static class Cycles<T, ATTACHMENT> extends ForwardingCollection<Cycle<T, ATTACHMENT>> {
         private final Collection<Cycle<T, ATTACHMENT>> cycles;
         private final boolean maxNumberOfCyclesReached;
+        private final boolean maxDetectionTimeExceeded;
 
-        private Cycles(Collection<Cycle<T, ATTACHMENT>> cycles, boolean maxNumberOfCyclesReached) {
+        private Cycles(Collection<Cycle<T, ATTACHMENT>> cycles, boolean maxNumberOfCyclesReached, boolean maxDetectionTimeExceeded) {
             this.cycles = cycles;
             this.maxNumberOfCyclesReached = maxNumberOfCyclesReached;
+            this.maxDetectionTimeExceeded = maxDetectionTimeExceeded;
         }
 
         boolean maxNumberOfCyclesReached() {
             return maxNumberOfCyclesReached;
         }
 
+        boolean maxDetectionTimeExceeded() {
+            return maxDetectionTimeExceeded;
+        }
+
         @Override
         protected Collection<Cycle<T, ATTACHMENT>> delegate() {
             return cycles;
@@ -15,7 +15,9 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -114,14 +116,21 @@ class JohnsonComponent {
         blocked.add(nodeIndex);
     }
 
+    /**
+     * Unblocks {@code nodeIndex} and transitively all nodes dependently blocked by it. Note that we use an explicit
+     * stack instead of recursion, since chains of dependently blocked nodes can become as long as the component.
+     */
     void unblock(int nodeIndex) {
-        if (!blocked.remove(nodeIndex)) {
-            return;
-        }
-        for (Integer dependentlyBlockedIndex : dependentlyBlocked.get(nodeIndex)) {
-            unblock(dependentlyBlockedIndex);
+        Deque<Integer> nodesToUnblock = new ArrayDeque<>();
+        nodesToUnblock.push(nodeIndex);
+        while (!nodesToUnblock.isEmpty()) {
+            int nodeToUnblock = nodesToUnblock.pop();
+            if (blocked.remove(nodeToUnblock)) {
+                for (Integer dependentlyBlockedIndex : dependentlyBlocked.removeAll(nodeToUnblock)) {
+                    nodesToUnblock.push(dependentlyBlockedIndex);
+                }
+            }
         }
-        dependentlyBlocked.get(nodeIndex).clear();
     }
 
     /**
@@ -16,12 +16,17 @@
 package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
 
+import com.tngtech.archunit.base.ArchUnitForkJoinPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_DETECTION_TIME_MILLIS_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.TarjanComponentFinder.NO_COMPONENT_FOUND;
 
@@ -54,6 +59,10 @@ import static com.tngtech.archunit.library.dependencies.TarjanComponentFinder.NO
  *         We then also never need to unblock this node, if all its descendants cannot lead
  *         back to the starting node)</li>
  * </ul>
+ * The depth first search is implemented with an explicit stack of {@link SearchFrame frames} (one per node on the
+ * current path), so even very deep components cannot cause a {@link StackOverflowError}. Found cycles are passed
+ * to a {@link CycleListener} as soon as they are discovered. The search stops once the configured maximum number
+ * of cycles has been found or the configured maximum detection time has elapsed.
  */
 class JohnsonCycleFinder {
     private static final Logger log = LoggerFactory.getLogger(JohnsonCycleFinder.class);
@@ -65,89 +74,320 @@ class JohnsonCycleFinder {
         this.primitiveGraph = primitiveGraph;
     }
 
-    Result findCycles() {
-        Result result = new Result();
+    /**
+     * @return a {@link Result} describing the number of cycles found and why the search stopped,
+     * the cycles themselves are passed to {@code listener} as soon as they are found
+     */
+    Result findCycles(CycleListener listener) {
+        Result result = new Result(listener);
+        if (result.configuration.isParallelCycleSearchEnabled()) {
+            findCyclesInParallel(result);
+        } else {
+            findCycles(result);
+        }
+        return result;
+    }
+
+    /**
+     * Cycles can never span multiple strongly connected components of the whole graph. Thus we can search each component
+     * independently within the sub graph induced by the component. Each search collects up to the maximum number
+     * of cycles on its own, while the detection time stays shared. Since the cycles of one start node are always
+     * found by the search of one component, sorting all cycles by their start node restores the order of the sequential
+     * search. Truncating the sorted cycles to the maximum number thus reports exactly the cycles the sequential search would
+     * report, independently of the scheduling of the searches (as long as the detection time is not exceeded).
+     */
+    private void findCyclesInParallel(Result result) {
+        List<int[]> components = new TarjanComponentFinder(primitiveGraph).findAllNonTrivialStronglyConnectedComponents();
+        List<ComponentCycles> cyclesByComponent = ArchUnitForkJoinPool.get().invoke(new ParallelComponentSearch(primitiveGraph, components, result));
+
+        List<int[]> cycles = new ArrayList<>();
+        boolean maxNumberOfCyclesReached = false;
+        for (ComponentCycles componentCycles : cyclesByComponent) {
+            cycles.addAll(componentCycles.cycles);
+            maxNumberOfCyclesReached |= componentCycles.maxNumberOfCyclesReached;
+        }
+        Collections.sort(cycles, BY_START_NODE);
+        for (int[] cycle : cycles) {
+            result.add(cycle);
+        }
+        if (maxNumberOfCyclesReached) {
+            result.markMaxNumberOfCyclesReached();
+        }
+    }
+
+    private void findCycles(CycleSink result) {
         TarjanComponentFinder componentFinder = new TarjanComponentFinder(primitiveGraph);
         JohnsonComponent johnsonComponent = JohnsonComponent.within(primitiveGraph);
-        while (nodeToProcess < primitiveGraph.getSize()) {
+        while (nodeToProcess < primitiveGraph.getSize() && result.canAcceptMoreCycles()) {
             int[] nextStronglyConnectedComponent = componentFinder.findNonTrivialStronglyConnectedComponentWithLowestNodeIndexAbove(nodeToProcess);
             if (nextStronglyConnectedComponent == NO_COMPONENT_FOUND) {
                 break;
             }
 
             johnsonComponent.init(nextStronglyConnectedComponent);
-            findCycles(result, johnsonComponent.getStartNodeIndex(), johnsonComponent);
+            findCyclesThroughStartNode(result, johnsonComponent);
             nodeToProcess = johnsonComponent.getStartNodeIndex() + 1;
         }
-        return result;
     }
 
-    private boolean findCycles(Result result, int originNodeIndex, JohnsonComponent johnsonComponent) {
-        if (!result.canAcceptMoreCycles()) {
-            return false;
+    private void findCyclesThroughStartNode(CycleSink result, JohnsonComponent johnsonComponent) {
+        SearchFrame[] frames = new SearchFrame[primitiveGraph.getSize()];
+        int depth = 0;
+        frames[depth] = SearchFrame.enter(johnsonComponent.getStartNodeIndex(), johnsonComponent);
+        while (depth >= 0) {
+            SearchFrame frame = frames[depth];
+            if (frame.hasNextTarget() && result.canAcceptMoreCycles()) {
+                int targetNodeIndex = frame.nextTarget();
+                if (johnsonComponent.isStartNodeIndex(targetNodeIndex)) {
+                    result.add(johnsonComponent.getStack());
+                    frame.foundCycle = true;
+                } else if (johnsonComponent.isNotBlocked(targetNodeIndex)) {
+                    frames[++depth] = SearchFrame.enter(targetNodeIndex, johnsonComponent);
+                }
+            } else {
+                frame.leave(johnsonComponent);
+                frames[depth--] = null;
+                if (depth >= 0) {
+                    frames[depth].foundCycle |= frame.foundCycle;
+                }
+            }
+        }
+    }
+
+    /**
+     * Represents the visit of a single node on the current path through the strongly connected component,
+     * i.e. the state that a recursive implementation would keep on the call stack.
+     */
+    private static class SearchFrame {
+        private final int originNodeIndex;
+        private final int[] targetNodeIndexes;
+        private int nextTargetIndex = 0;
+        private boolean foundCycle = false;
+
+        private SearchFrame(int originNodeIndex, int[] targetNodeIndexes) {
+            this.originNodeIndex = originNodeIndex;
+            this.targetNodeIndexes = targetNodeIndexes;
         }
 
-        boolean foundCycle = false;
-        johnsonComponent.pushOnStack(originNodeIndex);
-        johnsonComponent.block(originNodeIndex);
+        boolean hasNextTarget() {
+            return nextTargetIndex < targetNodeIndexes.length;
+        }
 
-        int[] targetNodeIndexes = johnsonComponent.getAdjacentNodesOf(originNodeIndex);
-        for (int targetNodeIndex : targetNodeIndexes) {
-            if (johnsonComponent.isStartNodeIndex(targetNodeIndex)) {
-                result.add(johnsonComponent.getStack());
-                foundCycle = true;
-            } else if (johnsonComponent.isNotBlocked(targetNodeIndex)) {
-                foundCycle = foundCycle | findCycles(result, targetNodeIndex, johnsonComponent);
+        int nextTarget() {
+            return targetNodeIndexes[nextTargetIndex++];
+        }
+
+        void leave(JohnsonComponent johnsonComponent) {
+            if (foundCycle) {
+                johnsonComponent.unblock(originNodeIndex);
+            } else {
+                for (int targetNodeIndex : targetNodeIndexes) {
+                    johnsonComponent.markDependentlyBlocked(originNodeIndex, targetNodeIndex);
+                }
             }
+            johnsonComponent.popFromStack();
         }
 
-        if (foundCycle) {
-            johnsonComponent.unblock(originNodeIndex);
-        } else {
-            for (int targetNodeIndex : targetNodeIndexes) {
-                johnsonComponent.markDependentlyBlocked(originNodeIndex, targetNodeIndex);
+        static SearchFrame enter(int originNodeIndex, JohnsonComponent johnsonComponent) {
+            johnsonComponent.pushOnStack(originNodeIndex);
+            johnsonComponent.block(originNodeIndex);
+            return new SearchFrame(originNodeIndex, johnsonComponent.getAdjacentNodesOf(originNodeIndex));
+        }
+    }
+
+    private static final Comparator<int[]> BY_START_NODE = new Comparator<int[]>() {
+        @Override
+        public int compare(int[] first, int[] second) {
+            return Integer.compare(first[0], second[0]);
+        }
+    };
+
+    private static class ParallelComponentSearch extends RecursiveTask<List<ComponentCycles>> {
+        private final PrimitiveGraph primitiveGraph;
+        private final List<int[]> components;
+        private final Result result;
+
+        ParallelComponentSearch(PrimitiveGraph primitiveGraph, List<int[]> components, Result result) {
+            this.primitiveGraph = primitiveGraph;
+            this.components = components;
+            this.result = result;
+        }
+
+        @Override
+        protected List<ComponentCycles> compute() {
+            List<RecursiveTask<ComponentCycles>> searches = new ArrayList<>();
+            for (final int[] component : components) {
+                searches.add(new RecursiveTask<ComponentCycles>() {
+                    @Override
+                    protected ComponentCycles compute() {
+                        ComponentCycles componentCycles = new ComponentCycles(component, result);
+                        new JohnsonCycleFinder(primitiveGraph.inducedBy(component)).findCycles(componentCycles);
+                        return componentCycles;
+                    }
+                });
+            }
+            invokeAll(searches);
+
+            List<ComponentCycles> cyclesByComponent = new ArrayList<>();
+            for (RecursiveTask<ComponentCycles> search : searches) {
+                cyclesByComponent.add(search.join());
+            }
+            return cyclesByComponent;
+        }
+    }
+
+    /**
+     * Collects up to the maximum number of cycles found within the sub graph induced by a component and translates
+     * them back to the node indexes of the whole graph.
+     */
+    private static class ComponentCycles implements CycleSink {
+        private final int[] component;
+        private final Result result;
+        private final int maxNumberOfCycles;
+        private final DetectionTimeCheck detectionTimeCheck;
+        private final List<int[]> cycles = new ArrayList<>();
+        private boolean maxNumberOfCyclesReached = false;
+
+        ComponentCycles(int[] component, Result result) {
+            this.component = component;
+            this.result = result;
+            this.maxNumberOfCycles = result.configuration.getMaxNumberOfCyclesToDetect();
+            this.detectionTimeCheck = new DetectionTimeCheck(result);
+        }
+
+        @Override
+        public boolean canAcceptMoreCycles() {
+            return !maxNumberOfCyclesReached && !detectionTimeCheck.maxDetectionTimeExceeded();
+        }
+
+        @Override
+        public void add(int[] cycle) {
+            if (cycles.size() >= maxNumberOfCycles) {
+                maxNumberOfCyclesReached = true;
+                return;
             }
+
+            int[] cycleInGraph = new int[cycle.length];
+            for (int i = 0; i < cycle.length; i++) {
+                cycleInGraph[i] = component[cycle[i]];
+            }
+            cycles.add(cycleInGraph);
         }
+    }
+
+    /**
+     * Checks whether the maximum detection time has been exceeded. Since the search asks for every single step,
+     * the time is only actually checked on the first and then on every {@value #STEPS_BETWEEN_TIME_CHECKS}th step,
+     * and not at all if no maximum detection time is configured. Every search must use its own {@link DetectionTimeCheck}.
+     */
+    private static class DetectionTimeCheck {
+        private static final int STEPS_BETWEEN_TIME_CHECKS = 1024;
 
-        johnsonComponent.popFromStack();
-        return foundCycle;
+        private final Result result;
+        private int stepsUntilTimeCheck = 1;
+
+        DetectionTimeCheck(Result result) {
+            this.result = result;
+        }
+
+        boolean maxDetectionTimeExceeded() {
+            if (!result.maxDetectionTimeConfigured || --stepsUntilTimeCheck > 0) {
+                return result.maxDetectionTimeExceeded;
+            }
+            stepsUntilTimeCheck = STEPS_BETWEEN_TIME_CHECKS;
+            return result.checkMaxDetectionTimeExceeded();
+        }
+    }
+
+    private interface CycleSink {
+        boolean canAcceptMoreCycles();
+
+        void add(int[] cycle);
+    }
+
+    interface CycleListener {
+        void onCycleFound(int[] cycle);
     }
 
-    static class Result implements Iterable<int[]> {
+    static class Result implements CycleSink {
         private final CycleConfiguration configuration = new CycleConfiguration();
-        private List<int[]> cycles = new ArrayList<>();
-        private boolean maxNumberOfCyclesReached = false;
+        private final CycleListener listener;
+        private final long startNanos = System.nanoTime();
+        private final long maxDetectionTimeNanos;
+        private final boolean maxDetectionTimeConfigured;
+        private final DetectionTimeCheck detectionTimeCheck = new DetectionTimeCheck(this);
+        private volatile int numberOfCycles = 0;
+        private volatile boolean maxNumberOfCyclesReached = false;
+        private volatile boolean maxDetectionTimeExceeded = false;
 
-        private Result() {
+        Result(CycleListener listener) {
+            this.listener = listener;
+            this.maxDetectionTimeNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getMaxDetectionTimeMillis());
+            this.maxDetectionTimeConfigured = maxDetectionTimeNanos < Long.MAX_VALUE;
             log.debug("Maximum number of cycles to detect is set to {}; "
                             + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
                     configuration.getMaxNumberOfCyclesToDetect(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
         }
 
-        private boolean canAcceptMoreCycles() {
-            return !maxNumberOfCyclesReached;
+        @Override
+        public boolean canAcceptMoreCycles() {
+            return !maxNumberOfCyclesReached && !detectionTimeCheck.maxDetectionTimeExceeded();
+        }
+
+        private boolean checkMaxDetectionTimeExceeded() {
+            if (!maxDetectionTimeExceeded && System.nanoTime() - startNanos > maxDetectionTimeNanos) {
+                markMaxDetectionTimeExceeded();
+            }
+            return maxDetectionTimeExceeded;
+        }
+
+        private synchronized void markMaxDetectionTimeExceeded() {
+            if (!maxDetectionTimeExceeded) {
+                maxDetectionTimeExceeded = true;
+                log.info("Stopping cycle detection after {} ms with {} cycles found; "
+                                + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
+                        configuration.getMaxDetectionTimeMillis(), numberOfCycles, MAX_DETECTION_TIME_MILLIS_PROPERTY_NAME);
+            }
         }
 
         boolean maxNumberOfCyclesReached() {
             return maxNumberOfCyclesReached;
         }
 
-        void add(int[] cycle) {
+        boolean maxDetectionTimeExceeded() {
+            return maxDetectionTimeExceeded;
+        }
+
+        int getNumberOfCycles() {
+            return numberOfCycles;
+        }
+
+        @Override
+        public void add(int[] cycle) {
+            if (tryCount()) {
+                listener.onCycleFound(cycle);
+            }
+        }
+
+        private synchronized void markMaxNumberOfCyclesReached() {
+            maxNumberOfCyclesReached = true;
+        }
+
+        /**
+         * @return true, if one more cycle can be accepted with respect to the maximum number of cycles to detect
+         */
+        private synchronized boolean tryCount() {
             if (maxNumberOfCyclesReached) {
-                return;
+                return false;
             }
 
-            if (this.cycles.size() >= configuration.getMaxNumberOfCyclesToDetect()) {
+            if (numberOfCycles >= configuration.getMaxNumberOfCyclesToDetect()) {
                 maxNumberOfCyclesReached = true;
-                return;
+                return false;
             }
 
-            this.cycles.add(cycle);
-        }
-
-        @Override
-        public Iterator<int[]> iterator() {
-            return cycles.iterator();
+            numberOfCycles++;
+            return true;
         }
     }
 }
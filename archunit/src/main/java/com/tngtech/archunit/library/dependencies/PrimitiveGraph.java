@@ -15,6 +15,9 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.copyOf;
+
 /**
  * An optimized graph stripped down to the bare minimum for cycle detection.
  * We represent nodes as integers from 0 ..< graph.size() and an edge as an array of two integers (node origin and node target).
@@ -36,4 +39,25 @@ class PrimitiveGraph {
     int[] getAdjacentNodesOf(int nodeIndex) {
         return edges[nodeIndex];
     }
+
+    /**
+     * @param sortedNodeIndexes node indexes sorted in ascending order
+     * @return the sub graph consisting of the given nodes and all edges between them, where node {@code sortedNodeIndexes[i]}
+     * is represented by node {@code i}. Thus the order of the nodes, as well as the order of the adjacent nodes of each node, is kept.
+     */
+    PrimitiveGraph inducedBy(int[] sortedNodeIndexes) {
+        int[][] subGraphEdges = new int[sortedNodeIndexes.length][];
+        int[] tempAdjacentNodes = new int[sortedNodeIndexes.length];
+        for (int subGraphNodeIndex = 0; subGraphNodeIndex < sortedNodeIndexes.length; subGraphNodeIndex++) {
+            int numberOfAdjacentNodes = 0;
+            for (int adjacentNode : edges[sortedNodeIndexes[subGraphNodeIndex]]) {
+                int subGraphAdjacentNodeIndex = binarySearch(sortedNodeIndexes, adjacentNode);
+                if (subGraphAdjacentNodeIndex >= 0) {
+                    tempAdjacentNodes[numberOfAdjacentNodes++] = subGraphAdjacentNodeIndex;
+                }
+            }
+            subGraphEdges[subGraphNodeIndex] = copyOf(tempAdjacentNodes, numberOfAdjacentNodes);
+        }
+        return new PrimitiveGraph(subGraphEdges);
+    }
 }
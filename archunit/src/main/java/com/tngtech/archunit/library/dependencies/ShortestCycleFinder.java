@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.primitives.Ints;
+import com.tngtech.archunit.library.dependencies.JohnsonCycleFinder.CycleListener;
+import com.tngtech.archunit.library.dependencies.JohnsonCycleFinder.Result;
+import com.tngtech.archunit.library.dependencies.PrimitiveDataTypes.IntStack;
+
+/**
+ * An alternative to {@link JohnsonCycleFinder} that does not enumerate all elementary cycles, but finds one shortest
+ * cycle through each edge within the non-trivial strongly connected components of the graph.
+ * <br><br>
+ * The number of elementary cycles can grow exponentially with the size of a strongly connected component, and those cycles
+ * are mostly long permutations of the same dependencies. In contrast, the number of cycles found here is bounded by the
+ * number of edges and every dependency that is part of some cycle will be reported by some (shortest) cycle.
+ * For each node {@code u} we do a single breadth first search backwards from {@code u} through its component.
+ * This gives the shortest path from any node {@code v} back to {@code u} and thus the shortest cycle through each edge {@code u -> v}.
+ * Thus the runtime is polynomial, i.e. O(V * (V + E)) for V nodes and E edges.
+ * <br><br>
+ * Each cycle is reported only once, even if it is the shortest cycle through several of its edges. Like for
+ * {@link JohnsonCycleFinder} every cycle starts with its lowest node index.
+ */
+class ShortestCycleFinder {
+    private static final int UNREACHABLE = -1;
+    private static final Comparator<int[]> BY_LOWEST_NODE = new Comparator<int[]>() {
+        @Override
+        public int compare(int[] first, int[] second) {
+            return Integer.compare(first[0], second[0]);
+        }
+    };
+
+    private final PrimitiveGraph primitiveGraph;
+
+    ShortestCycleFinder(PrimitiveGraph primitiveGraph) {
+        this.primitiveGraph = primitiveGraph;
+    }
+
+    Result findCycles(CycleListener listener) {
+        Result result = new Result(listener);
+        List<int[]> components = new TarjanComponentFinder(primitiveGraph).findAllNonTrivialStronglyConnectedComponents();
+        Collections.sort(components, BY_LOWEST_NODE);
+        Set<List<Integer>> foundCycles = new HashSet<>();
+        for (int[] component : components) {
+            if (!result.canAcceptMoreCycles()) {
+                break;
+            }
+            findShortestCyclesWithin(component, foundCycles, result);
+        }
+        return result;
+    }
+
+    private void findShortestCyclesWithin(int[] component, Set<List<Integer>> foundCycles, Result result) {
+        PrimitiveGraph componentGraph = primitiveGraph.inducedBy(component);
+        int[][] predecessors = findPredecessors(componentGraph);
+        for (int origin = 0; origin < componentGraph.getSize(); origin++) {
+            int[] nextNodesOnShortestPathToOrigin = findShortestPathsBackTo(origin, predecessors);
+            for (int target : componentGraph.getAdjacentNodesOf(origin)) {
+                if (!result.canAcceptMoreCycles()) {
+                    return;
+                }
+                int[] cycle = toNodesOfGraph(component, startingWithLowestNode(
+                        shortestCycleThrough(origin, target, nextNodesOnShortestPathToOrigin)));
+                if (foundCycles.add(Ints.asList(cycle))) {
+                    result.add(cycle);
+                }
+            }
+        }
+    }
+
+    private static int[][] findPredecessors(PrimitiveGraph graph) {
+        List<List<Integer>> predecessors = new ArrayList<>();
+        for (int node = 0; node < graph.getSize(); node++) {
+            predecessors.add(new ArrayList<Integer>());
+        }
+        for (int node = 0; node < graph.getSize(); node++) {
+            for (int adjacentNode : graph.getAdjacentNodesOf(node)) {
+                predecessors.get(adjacentNode).add(node);
+            }
+        }
+        int[][] result = new int[graph.getSize()][];
+        for (int node = 0; node < graph.getSize(); node++) {
+            result[node] = Ints.toArray(predecessors.get(node));
+        }
+        return result;
+    }
+
+    /**
+     * @return for each node the next node on a shortest path from this node to {@code origin}
+     * (or {@link #UNREACHABLE}, which cannot happen within a strongly connected component)
+     */
+    private static int[] findShortestPathsBackTo(int origin, int[][] predecessors) {
+        int[] nextNodes = new int[predecessors.length];
+        Arrays.fill(nextNodes, UNREACHABLE);
+        int[] queue = new int[predecessors.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = origin;
+        nextNodes[origin] = origin;
+        while (head < tail) {
+            int node = queue[head++];
+            for (int predecessor : predecessors[node]) {
+                if (nextNodes[predecessor] == UNREACHABLE) {
+                    nextNodes[predecessor] = node;
+                    queue[tail++] = predecessor;
+                }
+            }
+        }
+        return nextNodes;
+    }
+
+    private static int[] shortestCycleThrough(int origin, int target, int[] nextNodesOnShortestPathToOrigin) {
+        IntStack cycle = new IntStack(nextNodesOnShortestPathToOrigin.length);
+        cycle.push(origin);
+        for (int node = target; node != origin; node = nextNodesOnShortestPathToOrigin[node]) {
+            cycle.push(node);
+        }
+        return cycle.asArray();
+    }
+
+    private static int[] startingWithLowestNode(int[] cycle) {
+        int indexOfLowestNode = 0;
+        for (int i = 1; i < cycle.length; i++) {
+            if (cycle[i] < cycle[indexOfLowestNode]) {
+                indexOfLowestNode = i;
+            }
+        }
+        int[] result = new int[cycle.length];
+        for (int i = 0; i < cycle.length; i++) {
+            result[i] = cycle[(indexOfLowestNode + i) % cycle.length];
+        }
+        return result;
+    }
+
+    private static int[] toNodesOfGraph(int[] component, int[] cycleWithinComponent) {
+        int[] result = new int[cycleWithinComponent.length];
+        for (int i = 0; i < cycleWithinComponent.length; i++) {
+            result[i] = component[cycleWithinComponent[i]];
+        }
+        return result;
+    }
+}
@@ -16,45 +16,35 @@
 package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.RecursiveTask;
 
 import com.google.common.base.Function;
-import com.google.common.base.Joiner;
-import com.google.common.base.Strings;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ForwardingSet;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Ordering;
 import com.google.common.collect.SortedSetMultimap;
+import com.tngtech.archunit.base.ArchUnitForkJoinPool;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Guava;
 import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.lang.ArchCondition;
-import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
-import com.tngtech.archunit.lang.SimpleConditionEvent;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import static com.google.common.collect.MultimapBuilder.hashKeys;
-import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
-import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
-import static java.lang.System.lineSeparator;
 
 class SliceCycleArchCondition extends ArchCondition<Slice> {
-    private static final Logger log = LoggerFactory.getLogger(SliceCycleArchCondition.class);
-
     private final DescribedPredicate<Dependency> predicate;
     private ClassesToSlicesMapping classesToSlicesMapping;
+    private List<Slice> slicesToCheck;
     private Graph<Slice, Dependency> graph;
-    private EventRecorder eventRecorder;
+    private CycleEventRecorder<Slice> eventRecorder;
 
     SliceCycleArchCondition(DescribedPredicate<Dependency> predicate) {
         super("be free of cycles");
@@ -69,42 +59,123 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
 
     private void initializeResources(Iterable<Slice> allSlices) {
         classesToSlicesMapping = new ClassesToSlicesMapping(allSlices);
+        slicesToCheck = new ArrayList<>();
         graph = new Graph<>();
-        eventRecorder = new EventRecorder();
+        eventRecorder = new CycleEventRecorder<>(new Function<Slice, String>() {
+            @Override
+            public String apply(Slice slice) {
+                return slice.getDescription();
+            }
+        });
     }
 
     @Override
     public void check(Slice slice, ConditionEvents events) {
-        graph.addEdges(SliceDependencies.of(slice, classesToSlicesMapping, predicate));
+        slicesToCheck.add(slice);
     }
 
     @Override
-    public void finish(ConditionEvents events) {
-        Graph.Cycles<Slice, Dependency> cycles = graph.findCycles();
-        if (cycles.maxNumberOfCyclesReached()) {
-            events.setInformationAboutNumberOfViolations(String.format(
-                    " >= %d times - the maximum number of cycles to detect has been reached; "
-                            + "this limit can be adapted using the `archunit.properties` value `%s=xxx`",
-                    cycles.size(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME));
-        }
-        for (Cycle<Slice, Dependency> cycle : cycles) {
-            eventRecorder.record(cycle, events);
+    public void finish(final ConditionEvents events) {
+        for (SliceDependencies sliceDependencies : extractSliceDependencies()) {
+            graph.addEdges(sliceDependencies);
         }
+        JohnsonCycleFinder.Result cycles = graph.findCycles(new Graph.CycleHandler<Slice, Dependency>() {
+            @Override
+            public void handle(Cycle<Slice, Dependency> cycle) {
+                eventRecorder.record(cycle, events);
+            }
+        });
+        eventRecorder.recordSearchLimits(cycles, events);
         releaseResources();
     }
 
+    private List<SliceDependencies> extractSliceDependencies() {
+        if (new CycleConfiguration().isParallelEdgeExtractionEnabled()) {
+            return ArchUnitForkJoinPool.get().invoke(new ParallelSliceDependencyExtraction(slicesToCheck, classesToSlicesMapping, predicate));
+        }
+        return ParallelSliceDependencyExtraction.extractSequentially(slicesToCheck, classesToSlicesMapping, predicate);
+    }
+
+    @Override
+    public boolean isParallelizable() {
+        return false;
+    }
+
+    @Override
+    public boolean requiresAllowedEvents() {
+        return false;
+    }
+
     private void releaseResources() {
         classesToSlicesMapping = null;
+        slicesToCheck = null;
         graph = null;
         eventRecorder = null;
     }
 
-    private static class ClassesToSlicesMapping {
-        private final Iterable<Slice> allSlices;
-        private Map<JavaClass, Slice> mapping;
+    /**
+     * Extracts the {@link SliceDependencies} of all slices by recursively splitting them into partitions, that are
+     * processed in parallel. The results are merged in the order of the partitions, so the edges are added to the
+     * {@link Graph} in the same order as if all slices had been processed one after another.
+     */
+    private static class ParallelSliceDependencyExtraction extends RecursiveTask<List<SliceDependencies>> {
+        private static final int MAX_PARTITION_SIZE = 8;
+
+        private final List<Slice> slices;
+        private final ClassesToSlicesMapping classesToSlicesMapping;
+        private final DescribedPredicate<Dependency> predicate;
+
+        ParallelSliceDependencyExtraction(List<Slice> slices,
+                ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
+            this.slices = slices;
+            this.classesToSlicesMapping = classesToSlicesMapping;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected List<SliceDependencies> compute() {
+            if (slices.size() <= MAX_PARTITION_SIZE) {
+                return extractSequentially(slices, classesToSlicesMapping, predicate);
+            }
+
+            int middle = slices.size() / 2;
+            ParallelSliceDependencyExtraction secondHalf = partition(slices.subList(middle, slices.size()));
+            secondHalf.fork();
+            List<SliceDependencies> result = partition(slices.subList(0, middle)).compute();
+            result.addAll(secondHalf.join());
+            return result;
+        }
+
+        private ParallelSliceDependencyExtraction partition(List<Slice> partitionSlices) {
+            return new ParallelSliceDependencyExtraction(partitionSlices, classesToSlicesMapping, predicate);
+        }
+
+        static List<SliceDependencies> extractSequentially(List<Slice> slices,
+                ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
+            List<SliceDependencies> result = new ArrayList<>(slices.size());
+            for (Slice slice : slices) {
+                result.add(SliceDependencies.of(slice, classesToSlicesMapping, predicate));
+            }
+            return result;
+        }
+    }
 
-        private ClassesToSlicesMapping(Iterable<Slice> allSlices) {
-            this.allSlices = allSlices;
+    private static class ClassesToSlicesMapping {
+        private final Supplier<Map<JavaClass, Slice>> mapping;
+
+        private ClassesToSlicesMapping(final Iterable<Slice> allSlices) {
+            this.mapping = Suppliers.memoize(new Supplier<Map<JavaClass, Slice>>() {
+                @Override
+                public Map<JavaClass, Slice> get() {
+                    ImmutableMap.Builder<JavaClass, Slice> result = ImmutableMap.builder();
+                    for (Slice slice : allSlices) {
+                        for (JavaClass javaClass : slice) {
+                            result.put(javaClass, slice);
+                        }
+                    }
+                    return result.build();
+                }
+            });
         }
 
         public Slice get(JavaClass javaClass) {
@@ -112,16 +183,7 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
         }
 
         private Map<JavaClass, Slice> mapping() {
-            if (mapping != null) {
-                return mapping;
-            }
-            ImmutableMap.Builder<JavaClass, Slice> result = ImmutableMap.builder();
-            for (Slice slice : allSlices) {
-                for (JavaClass javaClass : slice) {
-                    result.put(javaClass, slice);
-                }
-            }
-            return mapping = result.build();
+            return mapping.get();
         }
 
         public boolean containsKey(JavaClass javaClass) {
@@ -167,82 +229,4 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
             return new SliceDependencies(slice, classesToSlicesMapping, predicate);
         }
     }
-
-    private static class EventRecorder {
-        private static final String CYCLE_DETECTED_SECTION_INTRO = "Cycle detected: ";
-        private static final String DEPENDENCY_DETAILS_INDENT = Strings.repeat(" ", 4);
-        private static final Function<Edge<Slice, Dependency>, String> GET_FROM_NODE_DESCRIPTION = new Function<Edge<Slice, Dependency>, String>() {
-            @Override
-            public String apply(Edge<Slice, Dependency> input) {
-                return input.getFrom().getDescription();
-            }
-        };
-
-        private final CycleConfiguration cycleConfiguration = new CycleConfiguration();
-
-        private EventRecorder() {
-            log.debug("Maximum number of dependencies to report per edge is set to {}; "
-                            + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
-                    cycleConfiguration.getMaxNumberOfDependenciesToShowPerEdge(), MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME);
-        }
-
-        void record(Cycle<Slice, Dependency> cycle, ConditionEvents events) {
-            events.add(newEvent(cycle));
-        }
-
-        private ConditionEvent newEvent(Cycle<Slice, Dependency> cycle) {
-            Map<String, Edge<Slice, Dependency>> descriptionsToEdges = sortEdgesByDescription(cycle);
-            String description = createDescription(descriptionsToEdges.keySet(), CYCLE_DETECTED_SECTION_INTRO.length());
-            String details = createDetails(descriptionsToEdges);
-            return new SimpleConditionEvent(cycle,
-                    false,
-                    CYCLE_DETECTED_SECTION_INTRO + description + lineSeparator() + details);
-        }
-
-        private Map<String, Edge<Slice, Dependency>> sortEdgesByDescription(Cycle<Slice, Dependency> cycle) {
-            LinkedList<Edge<Slice, Dependency>> edges = new LinkedList<>(cycle.getEdges());
-            Edge<Slice, Dependency> startEdge = Ordering.natural().onResultOf(GET_FROM_NODE_DESCRIPTION).min(edges);
-            while (!edges.getFirst().equals(startEdge)) {
-                edges.addLast(edges.pollFirst());
-            }
-            Map<String, Edge<Slice, Dependency>> descriptionToEdge = new LinkedHashMap<>();
-            for (Edge<Slice, Dependency> edge : edges) {
-                descriptionToEdge.put(edge.getFrom().getDescription(), edge);
-            }
-            return descriptionToEdge;
-        }
-
-        private String createDescription(Collection<String> edgeDescriptions, int indent) {
-            List<String> descriptions = new ArrayList<>(edgeDescriptions);
-            descriptions.add(descriptions.get(0));
-            return Joiner.on(" -> " + lineSeparator() + Strings.repeat(" ", indent)).join(descriptions);
-        }
-
-        private String createDetails(Map<String, Edge<Slice, Dependency>> descriptionsToEdges) {
-            List<String> details = new ArrayList<>();
-            int sliceIndex = 0;
-            for (Map.Entry<String, Edge<Slice, Dependency>> edgeWithDescription : descriptionsToEdges.entrySet()) {
-                ++sliceIndex;
-                details.add(String.format("  %d. Dependencies of %s", sliceIndex, edgeWithDescription.getKey()));
-                details.addAll(dependenciesDescription(edgeWithDescription.getValue()));
-            }
-            return Joiner.on(lineSeparator()).join(details);
-        }
-
-        private List<String> dependenciesDescription(Edge<Slice, Dependency> edge) {
-            List<String> result = new ArrayList<>();
-            int maxDependencies = cycleConfiguration.getMaxNumberOfDependenciesToShowPerEdge();
-            List<Dependency> allDependencies = edge.getAttachments();
-            boolean tooManyDependenciesToDisplay = allDependencies.size() > maxDependencies;
-            List<Dependency> dependenciesToDisplay = tooManyDependenciesToDisplay ? allDependencies.subList(0, maxDependencies) : allDependencies;
-            for (Dependency dependency : dependenciesToDisplay) {
-                result.add(DEPENDENCY_DETAILS_INDENT + "- " + dependency.getDescription());
-            }
-            if (tooManyDependenciesToDisplay) {
-                result.add(DEPENDENCY_DETAILS_INDENT + String.format("(%d further dependencies have been omitted...)",
-                        allDependencies.size() - dependenciesToDisplay.size()));
-            }
-            return result;
-        }
-    }
 }
@@ -28,9 +28,13 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ArchRule.Transformation.As;
 import com.tngtech.archunit.lang.ArchRule.Transformation.Because;
+import com.tngtech.archunit.lang.ArchRule.Transformation.StopAfterViolations;
+import com.tngtech.archunit.lang.ArchRule.Transformation.StreamViolationsTo;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
+import com.tngtech.archunit.lang.ViolationHandler;
 
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.DescribedPredicate.not;
 import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependency;
@@ -88,6 +92,18 @@ public final class SliceRule implements ArchRule {
         return copyWithTransformation(new As(newDescription));
     }
 
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public SliceRule stopAfterViolations(int maxNumberOfViolations) {
+        return copyWithTransformation(new StopAfterViolations(maxNumberOfViolations));
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public SliceRule streamViolationsTo(ViolationHandler<?> violationHandler) {
+        return copyWithTransformation(new StreamViolationsTo(violationHandler));
+    }
+
     @PublicAPI(usage = ACCESS)
     public SliceRule ignoreDependency(Class<?> origin, Class<?> target) {
         return ignoreDependency(equivalentTo(origin), equivalentTo(target));
@@ -69,60 +69,103 @@ class TarjanComponentFinder {
         return nextComponent;
     }
 
-    private int[] findNonTrivialLowestStronglyConnectedComponentInSubGraphInducedByLowerBound(int lowerIndexBound) {
-        for (int j = lowerIndexBound; j < graph.getSize(); j++) {
+    /**
+     * Returns all strongly connected components of the graph consisting of more than one node.<br>
+     * Note that each returned array of node indexes is guaranteed to be sorted in ascending order.
+     */
+    List<int[]> findAllNonTrivialStronglyConnectedComponents() {
+        List<int[]> components = new ArrayList<>();
+        for (int j = 0; j < graph.getSize(); j++) {
             if (graph.isVisitationIndexUnset(j)) {
-                List<int[]> components = findNonTrivialStronglyConnectedComponents(j, lowerIndexBound);
-                if (!components.isEmpty()) {
-                    return findComponentWithLowestNode(components);
-                }
+                components.addAll(findNonTrivialStronglyConnectedComponents(j, 0));
             }
         }
-        return NO_COMPONENT_FOUND;
+        for (int[] component : components) {
+            sort(component);
+        }
+        reset();
+        return components;
     }
 
-    private List<int[]> findNonTrivialStronglyConnectedComponents(int nodeToVisit, int lowerIndexBound) {
-        int currentIndex = nextIndex++;
-        graph.setNodeVisitationIndex(nodeToVisit, currentIndex);
-        graph.setLowLink(nodeToVisit, currentIndex);
-        graph.pushOnStack(nodeToVisit);
-
-        List<int[]> result = findNonTrivialStronglyConnectedComponentsOfDescendants(nodeToVisit, lowerIndexBound);
-
-        // if lowlink is still equal to the visitation index, we have found the start of a strongly connected component
-        if (graph.getLowLink(nodeToVisit) == graph.getNodeVisitationIndex(nodeToVisit)) {
-            int[] currentStack = graph.popStackUntilEncountering(nodeToVisit);
-            if (currentStack != LESS_THAN_TWO_VALUES) {
-                result.add(currentStack);
+    /**
+     * Note that a depth first search starting at node {@code j} only finds the components reachable from {@code j}.
+     * A component with a lower node might only be reachable from a later start node. Thus we have to continue searching
+     * until the start node is not lower than the lowest node of any component found so far.
+     */
+    private int[] findNonTrivialLowestStronglyConnectedComponentInSubGraphInducedByLowerBound(int lowerIndexBound) {
+        List<int[]> components = new ArrayList<>();
+        int lowestNodeOfComponents = Integer.MAX_VALUE;
+        for (int j = lowerIndexBound; j < graph.getSize() && j < lowestNodeOfComponents; j++) {
+            if (graph.isVisitationIndexUnset(j)) {
+                for (int[] component : findNonTrivialStronglyConnectedComponents(j, lowerIndexBound)) {
+                    components.add(component);
+                    lowestNodeOfComponents = Math.min(lowestNodeOfComponents, Ints.min(component));
+                }
             }
         }
-        return result;
+        return components.isEmpty() ? NO_COMPONENT_FOUND : findComponentWithLowestNode(components);
     }
 
-    private List<int[]> findNonTrivialStronglyConnectedComponentsOfDescendants(int nodeToVisit, int lowerIndexBound) {
+    /**
+     * Note that the depth first search uses an explicit stack of the visited nodes together with the position of the next
+     * adjacent node to follow, instead of recursion. Thus long paths within the graph cannot cause a {@link StackOverflowError}.
+     */
+    private List<int[]> findNonTrivialStronglyConnectedComponents(int startNode, int lowerIndexBound) {
         List<int[]> result = new ArrayList<>();
-        for (int targetNode : graph.getAdjacentNodesOf(nodeToVisit)) {
-            if (targetNode < lowerIndexBound) {
-                continue;
-            }
+        int[] nodesOnPath = new int[graph.getSize()];
+        int[] nextAdjacentNodePositions = new int[graph.getSize()];
+        int depth = 0;
+        nodesOnPath[depth] = startNode;
+        visit(startNode);
+        while (depth >= 0) {
+            int nodeToVisit = nodesOnPath[depth];
+            int[] adjacentNodes = graph.getAdjacentNodesOf(nodeToVisit);
+            if (nextAdjacentNodePositions[depth] < adjacentNodes.length) {
+                int targetNode = adjacentNodes[nextAdjacentNodePositions[depth]++];
+                if (targetNode < lowerIndexBound) {
+                    continue;
+                }
 
-            if (graph.isVisitationIndexUnset(targetNode)) {
-                // we have not seen this node so far, so we will recursively search for strongly connected components
-                result.addAll(findNonTrivialStronglyConnectedComponents(targetNode, lowerIndexBound));
-                // then we can safely backtrack lowlink, i.e. set lowlink to the minimum of the target node lowlink and ours
-                int newLowLink = Math.min(graph.getLowLink(nodeToVisit), graph.getLowLink(targetNode));
-                graph.setLowLink(nodeToVisit, newLowLink);
-            } else if (graph.isOnStack(targetNode)) {
-                // we encountered a node of the same strongly connected component
-                // to keep our invariant about lowlink, lowlink must now be the minimum of the current lowlink
-                // and the visitation index of this target node
-                int newLowLink = Math.min(graph.getNodeVisitationIndex(targetNode), graph.getLowLink(nodeToVisit));
-                graph.setLowLink(nodeToVisit, newLowLink);
+                if (graph.isVisitationIndexUnset(targetNode)) {
+                    // we have not seen this node so far, so we will descend to search for strongly connected components
+                    depth++;
+                    nodesOnPath[depth] = targetNode;
+                    nextAdjacentNodePositions[depth] = 0;
+                    visit(targetNode);
+                } else if (graph.isOnStack(targetNode)) {
+                    // we encountered a node of the same strongly connected component
+                    // to keep our invariant about lowlink, lowlink must now be the minimum of the current lowlink
+                    // and the visitation index of this target node
+                    int newLowLink = Math.min(graph.getNodeVisitationIndex(targetNode), graph.getLowLink(nodeToVisit));
+                    graph.setLowLink(nodeToVisit, newLowLink);
+                }
+            } else {
+                // if lowlink is still equal to the visitation index, we have found the start of a strongly connected component
+                if (graph.getLowLink(nodeToVisit) == graph.getNodeVisitationIndex(nodeToVisit)) {
+                    int[] currentStack = graph.popStackUntilEncountering(nodeToVisit);
+                    if (currentStack != LESS_THAN_TWO_VALUES) {
+                        result.add(currentStack);
+                    }
+                }
+                depth--;
+                if (depth >= 0) {
+                    // when backtracking we can safely set lowlink to the minimum of the descendant's lowlink and ours
+                    int parentNode = nodesOnPath[depth];
+                    int newLowLink = Math.min(graph.getLowLink(parentNode), graph.getLowLink(nodeToVisit));
+                    graph.setLowLink(parentNode, newLowLink);
+                }
             }
         }
         return result;
     }
 
+    private void visit(int nodeToVisit) {
+        int currentIndex = nextIndex++;
+        graph.setNodeVisitationIndex(nodeToVisit, currentIndex);
+        graph.setLowLink(nodeToVisit, currentIndex);
+        graph.pushOnStack(nodeToVisit);
+    }
+
     private int[] findComponentWithLowestNode(List<int[]> component) {
         int[] componentWithLowestNodeIndex = Ordering.natural().onResultOf(MINIMUM_OF_INT_ARRAY).min(component);
         sort(componentWithLowestNodeIndex);
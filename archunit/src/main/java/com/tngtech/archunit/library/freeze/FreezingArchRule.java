@@ -24,15 +24,18 @@ import java.util.Set;
 
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.base.Predicate;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.EvaluationResult;
-import com.tngtech.archunit.lang.Priority;
+import com.tngtech.archunit.lang.ViolationHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.FREEZE_STORE_PROPERTY_NAME;
 
@@ -79,15 +82,21 @@ public final class FreezingArchRule implements ArchRule {
     private final ArchRule delegate;
     private final ViolationStoreLineBreakAdapter store;
     private final ViolationLineMatcher matcher;
+    private final Optional<Integer> maxNumberOfViolations;
+    private final Optional<ViolationHandler<?>> violationStream;
 
-    private FreezingArchRule(ArchRule delegate, ViolationStore store, ViolationLineMatcher matcher) {
-        this(delegate, new ViolationStoreLineBreakAdapter(store), matcher);
+    private FreezingArchRule(ArchRule delegate, ViolationStore store, ViolationLineMatcher matcher,
+            Optional<Integer> maxNumberOfViolations, Optional<ViolationHandler<?>> violationStream) {
+        this(delegate, new ViolationStoreLineBreakAdapter(store), matcher, maxNumberOfViolations, violationStream);
     }
 
-    private FreezingArchRule(ArchRule delegate, ViolationStoreLineBreakAdapter store, ViolationLineMatcher matcher) {
+    private FreezingArchRule(ArchRule delegate, ViolationStoreLineBreakAdapter store, ViolationLineMatcher matcher,
+            Optional<Integer> maxNumberOfViolations, Optional<ViolationHandler<?>> violationStream) {
         this.delegate = checkNotNull(delegate);
         this.store = store;
         this.matcher = checkNotNull(matcher);
+        this.maxNumberOfViolations = checkNotNull(maxNumberOfViolations);
+        this.violationStream = checkNotNull(violationStream);
     }
 
     @Override
@@ -99,13 +108,41 @@ public final class FreezingArchRule implements ArchRule {
     @Override
     @PublicAPI(usage = ACCESS)
     public FreezingArchRule because(String reason) {
-        return new FreezingArchRule(delegate.because(reason), store, matcher);
+        return new FreezingArchRule(delegate.because(reason), store, matcher, maxNumberOfViolations, violationStream);
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public FreezingArchRule as(String newDescription) {
-        return new FreezingArchRule(delegate.as(newDescription), store, matcher);
+        return new FreezingArchRule(delegate.as(newDescription), store, matcher, maxNumberOfViolations, violationStream);
+    }
+
+    /**
+     * Since all actual violations must be compared to the stored violations, the rule this {@link FreezingArchRule}
+     * is based on will always be evaluated completely. The limit only applies to the reported new violations.
+     *
+     * @see ArchRule#stopAfterViolations(int)
+     */
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public FreezingArchRule stopAfterViolations(int maxNumberOfViolations) {
+        checkArgument(maxNumberOfViolations > 0, "Maximum number of violations must be positive, but was %s", maxNumberOfViolations);
+        return new FreezingArchRule(delegate, store, matcher, Optional.of(maxNumberOfViolations), violationStream);
+    }
+
+    /**
+     * Unlike described in {@link ArchRule#streamViolationsTo(ViolationHandler)}, violations are not passed on during the
+     * evaluation. Since all actual violations must be compared to the stored violations, new violations are only known after
+     * the rule this {@link FreezingArchRule} is based on has been evaluated completely. Thus, only new violations are passed
+     * to the {@link ViolationHandler}, after the evaluation has finished, and they are also retained within the {@link EvaluationResult}.
+     * In particular, this does not bound the memory needed to evaluate the rule.
+     *
+     * @see ArchRule#streamViolationsTo(ViolationHandler)
+     */
+    @Override
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public FreezingArchRule streamViolationsTo(ViolationHandler<?> violationHandler) {
+        return new FreezingArchRule(delegate, store, matcher, maxNumberOfViolations, Optional.<ViolationHandler<?>>of(checkNotNull(violationHandler)));
     }
 
     @Override
@@ -113,11 +150,20 @@ public final class FreezingArchRule implements ArchRule {
     public EvaluationResult evaluate(JavaClasses classes) {
         store.initialize(ArchConfiguration.get().getSubProperties(FREEZE_STORE_PROPERTY_NAME));
 
-        EvaluationResultLineBreakAdapter result = new EvaluationResultLineBreakAdapter(delegate.evaluate(classes));
+        // a limited evaluation would make all violations that have not been found look solved
+        EvaluationResult completeResult = delegate.stopAfterViolations(Integer.MAX_VALUE).evaluate(classes);
+        EvaluationResultLineBreakAdapter result = new EvaluationResultLineBreakAdapter(completeResult);
         if (!store.contains(delegate) || refreezeViolations()) {
             return storeViolationsAndReturnSuccess(result);
         } else {
-            return removeObsoleteViolationsFromStoreAndReturnNewViolations(result);
+            EvaluationResult newViolations = removeObsoleteViolationsFromStoreAndReturnNewViolations(result);
+            if (maxNumberOfViolations.isPresent()) {
+                newViolations = newViolations.limitViolations(maxNumberOfViolations.get());
+            }
+            if (violationStream.isPresent()) {
+                newViolations.handleViolations(violationStream.get());
+            }
+            return newViolations;
         }
     }
 
@@ -129,7 +175,8 @@ public final class FreezingArchRule implements ArchRule {
     private EvaluationResult storeViolationsAndReturnSuccess(EvaluationResultLineBreakAdapter result) {
         log.debug("No results present for rule '{}'. Freezing rule result...", delegate.getDescription());
         store.save(delegate, result.getViolations());
-        return new EvaluationResult(delegate, result.getPriority());
+        // all violations are known now, filtering them out keeps the profiles of the evaluation
+        return result.filterDescriptionsMatching(Predicate.Defaults.<String>alwaysFalse());
     }
 
     private EvaluationResult removeObsoleteViolationsFromStoreAndReturnNewViolations(EvaluationResultLineBreakAdapter result) {
@@ -175,7 +222,7 @@ public final class FreezingArchRule implements ArchRule {
      */
     @PublicAPI(usage = ACCESS)
     public FreezingArchRule persistIn(ViolationStore store) {
-        return new FreezingArchRule(delegate, store, matcher);
+        return new FreezingArchRule(delegate, store, matcher, maxNumberOfViolations, violationStream);
     }
 
     /**
@@ -189,7 +236,7 @@ public final class FreezingArchRule implements ArchRule {
      */
     @PublicAPI(usage = ACCESS)
     public FreezingArchRule associateViolationLinesVia(ViolationLineMatcher matcher) {
-        return new FreezingArchRule(delegate, store, matcher);
+        return new FreezingArchRule(delegate, store, matcher, maxNumberOfViolations, violationStream);
     }
 
     @Override
@@ -206,7 +253,8 @@ public final class FreezingArchRule implements ArchRule {
      */
     @PublicAPI(usage = ACCESS)
     public static FreezingArchRule freeze(ArchRule rule) {
-        return new FreezingArchRule(rule, ViolationStoreFactory.create(), ViolationLineMatcherFactory.create());
+        return new FreezingArchRule(rule, ViolationStoreFactory.create(), ViolationLineMatcherFactory.create(),
+                Optional.<Integer>empty(), Optional.<ViolationHandler<?>>empty());
     }
 
     static String ensureUnixLineBreaks(String string) {
@@ -291,10 +339,6 @@ public final class FreezingArchRule implements ArchRule {
             return ensureUnixLineBreaks(result.getFailureReport().getDetails());
         }
 
-        Priority getPriority() {
-            return result.getPriority();
-        }
-
         EvaluationResult filterDescriptionsMatching(final Predicate<String> predicate) {
             return result.filterDescriptionsMatching(new Predicate<String>() {
                 @Override
@@ -197,13 +197,22 @@ class ViolationStoreFactory {
             }
         }
 
+        /**
+         * Several stores might use the same file concurrently, e.g. if frozen rules are evaluated in parallel.
+         * Thus, the file is only ever read or written while holding a common lock, and every update merges the
+         * rules stored by other stores in the meantime, instead of overwriting them.
+         */
         private static class FileSyncedProperties {
+            private static final Object FILE_LOCK = new Object();
+
             private final File propertiesFile;
             private final Properties loadedProperties;
 
             FileSyncedProperties(File file) {
-                propertiesFile = initializePropertiesFile(file);
-                loadedProperties = initializationSuccessful() ? loadRulesFrom(propertiesFile) : null;
+                synchronized (FILE_LOCK) {
+                    propertiesFile = initializePropertiesFile(file);
+                    loadedProperties = initializationSuccessful() ? loadRulesFrom(propertiesFile) : null;
+                }
             }
 
             boolean initializationSuccessful() {
@@ -239,8 +248,11 @@ class ViolationStoreFactory {
             }
 
             void setProperty(String propertyName, String value) {
-                loadedProperties.setProperty(ensureUnixLineBreaks(propertyName), ensureUnixLineBreaks(value));
-                syncFileSystem();
+                synchronized (FILE_LOCK) {
+                    loadedProperties.putAll(loadRulesFrom(propertiesFile));
+                    loadedProperties.setProperty(ensureUnixLineBreaks(propertyName), ensureUnixLineBreaks(value));
+                    syncFileSystem();
+                }
             }
 
             private void syncFileSystem() {
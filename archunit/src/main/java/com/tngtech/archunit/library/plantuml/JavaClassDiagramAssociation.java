@@ -16,26 +16,40 @@
 package com.tngtech.archunit.library.plantuml;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.domain.JavaClass;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 
+/**
+ * Associates classes with the components of a {@link PlantUmlDiagram} by the package identifiers given as stereotypes.
+ * Since stereotypes are unique, each package identifier belongs to exactly one component. Thus all package identifiers
+ * of the diagram are matched together by one {@link PackageMatchers} and the components of a package are simply
+ * the components of all matching identifiers. {@link PackageMatchers} caches the matching identifiers by package name,
+ * so classes of the same package (and the targets of their dependencies, which are mostly in few packages)
+ * are matched only once.
+ */
 class JavaClassDiagramAssociation {
-    private final Set<AssociatedComponent> components;
+    private final Map<String, PlantUmlComponent> componentsByPackageIdentifier;
+    private final PackageMatchers packageIdentifiersOfAllComponents;
 
     JavaClassDiagramAssociation(PlantUmlDiagram diagram) {
-        ImmutableSet.Builder<AssociatedComponent> components = ImmutableSet.builder();
         validateStereotypes(diagram);
+        ImmutableMap.Builder<String, PlantUmlComponent> componentsByPackageIdentifier = ImmutableMap.builder();
         for (PlantUmlComponent component : diagram.getAllComponents()) {
-            components.add(new AssociatedComponent(component));
+            for (Stereotype stereotype : component.getStereotypes()) {
+                componentsByPackageIdentifier.put(stereotype.asString(), component);
+            }
         }
-        this.components = components.build();
+        this.componentsByPackageIdentifier = componentsByPackageIdentifier.build();
+        this.packageIdentifiersOfAllComponents = PackageMatchers.of(this.componentsByPackageIdentifier.keySet());
     }
 
     private void validateStereotypes(PlantUmlDiagram plantUmlDiagram) {
@@ -51,8 +65,12 @@ class JavaClassDiagramAssociation {
     }
 
     Set<String> getTargetPackageIdentifiers(final JavaClass javaClass) {
+        return getTargetPackageIdentifiers(getComponentOf(javaClass));
+    }
+
+    Set<String> getTargetPackageIdentifiers(PlantUmlComponent component) {
         ImmutableSet.Builder<String> result = ImmutableSet.builder();
-        for (PlantUmlComponent target : getComponentOf(javaClass).getDependencies()) {
+        for (PlantUmlComponent target : component.getDependencies()) {
             result.addAll(getPackageIdentifiersFromComponentOf(target));
         }
         return result.build();
@@ -62,7 +80,7 @@ class JavaClassDiagramAssociation {
         return getPackageIdentifiersFromComponentOf(getComponentOf(javaClass));
     }
 
-    private Set<String> getPackageIdentifiersFromComponentOf(PlantUmlComponent component) {
+    Set<String> getPackageIdentifiersFromComponentOf(PlantUmlComponent component) {
         ImmutableSet.Builder<String> result = ImmutableSet.builder();
         for (Stereotype stereotype : component.getStereotypes()) {
             result.add(stereotype.asString());
@@ -70,7 +88,7 @@ class JavaClassDiagramAssociation {
         return result.build();
     }
 
-    private PlantUmlComponent getComponentOf(final JavaClass javaClass) {
+    PlantUmlComponent getComponentOf(final JavaClass javaClass) {
         Set<PlantUmlComponent> associatedComponents = getAssociatedComponents(javaClass);
 
         if (associatedComponents.size() > 1) {
@@ -91,10 +109,8 @@ class JavaClassDiagramAssociation {
 
     private Set<PlantUmlComponent> getAssociatedComponents(JavaClass javaClass) {
         ImmutableSet.Builder<PlantUmlComponent> result = ImmutableSet.builder();
-        for (AssociatedComponent component : components) {
-            if (component.contains(javaClass)) {
-                result.add(component.asPlantUmlComponent());
-            }
+        for (String packageIdentifier : packageIdentifiersOfAllComponents.getMatchingPackageIdentifiers(javaClass.getPackageName())) {
+            result.add(componentsByPackageIdentifier.get(packageIdentifier));
         }
         return result.build();
     }
@@ -106,31 +122,4 @@ class JavaClassDiagramAssociation {
         }
         return associatedComponentNames;
     }
-
-    private static class AssociatedComponent {
-        private final PlantUmlComponent component;
-        private final Set<PackageMatcher> packageMatchers;
-
-        private AssociatedComponent(PlantUmlComponent component) {
-            this.component = component;
-            ImmutableSet.Builder<PackageMatcher> packageMatchers = ImmutableSet.builder();
-            for (Stereotype stereotype : component.getStereotypes()) {
-                packageMatchers.add(PackageMatcher.of(stereotype.asString()));
-            }
-            this.packageMatchers = packageMatchers.build();
-        }
-
-        private boolean contains(JavaClass javaClass) {
-            for (PackageMatcher packageMatcher : packageMatchers) {
-                if (packageMatcher.matches(javaClass.getPackageName())) {
-                    return true;
-                }
-            }
-            return false;
-        }
-
-        PlantUmlComponent asPlantUmlComponent() {
-            return component;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -23,6 +23,9 @@ import java.nio.file.Paths;
 import java.util.List;
 
 import com.google.common.base.Joiner;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.FluentIterable;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -32,6 +35,7 @@ import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.library.plantuml.PlantUmlDiagramCache.ParsedDiagram;
 
 import static com.google.common.base.Preconditions.checkState;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
@@ -87,17 +91,33 @@ import static java.util.Collections.singleton;
  * </ol>
  */
 public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
+    private static final PlantUmlDiagramCache DIAGRAM_CACHE = new PlantUmlDiagramCache();
+
     private final DescribedPredicate<Dependency> ignorePredicate;
     private final JavaClassDiagramAssociation javaClassDiagramAssociation;
+    private final LoadingCache<PlantUmlComponent, ArchCondition<JavaClass>> conditionsByComponent;
 
     private PlantUmlArchCondition(
             String description,
-            DescribedPredicate<Dependency> ignorePredicate,
-            JavaClassDiagramAssociation javaClassDiagramAssociation) {
+            final DescribedPredicate<Dependency> ignorePredicate,
+            final JavaClassDiagramAssociation javaClassDiagramAssociation) {
 
         super(description);
         this.ignorePredicate = ignorePredicate;
         this.javaClassDiagramAssociation = javaClassDiagramAssociation;
+        // all classes of a component may depend on the same packages, so we only create one condition per component
+        this.conditionsByComponent = CacheBuilder.newBuilder().build(new CacheLoader<PlantUmlComponent, ArchCondition<JavaClass>>() {
+            @Override
+            public ArchCondition<JavaClass> load(PlantUmlComponent component) {
+                String[] allAllowedTargets = FluentIterable
+                        .from(javaClassDiagramAssociation.getPackageIdentifiersFromComponentOf(component))
+                        .append(javaClassDiagramAssociation.getTargetPackageIdentifiers(component))
+                        .toArray(String.class);
+
+                return onlyHaveDependenciesInAnyPackage(allAllowedTargets)
+                        .ignoreDependency(ignorePredicate);
+            }
+        });
     }
 
     @PublicAPI(usage = ACCESS)
@@ -138,15 +158,8 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
             return;
         }
 
-        String[] allAllowedTargets = FluentIterable
-                .from(javaClassDiagramAssociation.getPackageIdentifiersFromComponentOf(item))
-                .append(javaClassDiagramAssociation.getTargetPackageIdentifiers(item))
-                .toArray(String.class);
-
-        ArchCondition<JavaClass> delegate = onlyHaveDependenciesInAnyPackage(allAllowedTargets)
-                .ignoreDependency(ignorePredicate);
-
-        delegate.check(item, events);
+        PlantUmlComponent component = javaClassDiagramAssociation.getComponentOf(item);
+        conditionsByComponent.getUnchecked(component).check(item, events);
     }
 
     private boolean allDependenciesAreIgnored(JavaClass item) {
@@ -186,10 +199,10 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
     }
 
     private static PlantUmlArchCondition create(URL url, Configuration configuration) {
-        PlantUmlDiagram diagram = new PlantUmlParser().parse(url);
-        checkState(!diagram.getAllComponents().isEmpty(), "No components defined in diagram <%s>", url);
+        ParsedDiagram parsedDiagram = DIAGRAM_CACHE.get(url);
+        checkState(!parsedDiagram.getDiagram().getAllComponents().isEmpty(), "No components defined in diagram <%s>", url);
 
-        JavaClassDiagramAssociation javaClassDiagramAssociation = new JavaClassDiagramAssociation(diagram);
+        JavaClassDiagramAssociation javaClassDiagramAssociation = parsedDiagram.getJavaClassDiagramAssociation();
         DescribedPredicate<Dependency> ignorePredicate = configuration.asIgnorePredicate(javaClassDiagramAssociation);
         return new PlantUmlArchCondition(getDescription(url, ignorePredicate.getDescription()), ignorePredicate, javaClassDiagramAssociation);
     }
@@ -276,16 +289,16 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
         }
 
         private static class NotContainedInPackagesPredicate extends DescribedPredicate<Dependency> {
-            private final List<String> packageIdentifiers;
+            private final PackageMatchers packageMatchers;
 
             NotContainedInPackagesPredicate(List<String> packageIdentifiers) {
                 super(" while ignoring dependencies outside of packages ['%s']", Joiner.on("', '").join(packageIdentifiers));
-                this.packageIdentifiers = packageIdentifiers;
+                this.packageMatchers = PackageMatchers.of(packageIdentifiers);
             }
 
             @Override
             public boolean apply(Dependency input) {
-                return !PackageMatchers.of(packageIdentifiers).apply(input.getTargetClass().getPackageName());
+                return !packageMatchers.apply(input.getTargetClass().getPackageName());
             }
         }
     }
@@ -301,4 +314,9 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
     interface Configuration {
         DescribedPredicate<Dependency> asIgnorePredicate(JavaClassDiagramAssociation javaClassDiagramAssociation);
     }
+
+    @Override
+    public boolean requiresAllowedEvents() {
+        return false;
+    }
 }
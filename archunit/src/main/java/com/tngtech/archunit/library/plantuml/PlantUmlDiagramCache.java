@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.plantuml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.BaseEncoding;
+
+/**
+ * Caches parsed diagrams together with their {@link JavaClassDiagramAssociation}, because the same diagram is usually
+ * checked by many rules, e.g. from many test classes or modules. A cached diagram is only reused as long as the diagram
+ * has not changed, i.e. we identify a diagram by its URL together with the MD5 sum of its content. Note that the last
+ * modification time and size of a file would not suffice, since a file might be rewritten with the same size within
+ * the resolution of the modification time.<br>
+ * Cached diagrams are only softly referenced, so they can be collected if memory gets short.
+ */
+class PlantUmlDiagramCache {
+    private final PlantUmlParser parser = new PlantUmlParser();
+    private final Cache<DiagramKey, ParsedDiagram> parsedDiagrams = CacheBuilder.newBuilder().softValues().build();
+
+    ParsedDiagram get(URL url) {
+        DiagramKey key = DiagramKey.of(url);
+        ParsedDiagram result = parsedDiagrams.getIfPresent(key);
+        if (result == null) {
+            result = new ParsedDiagram(parser.parse(url));
+            parsedDiagrams.put(key, result);
+        }
+        return result;
+    }
+
+    static class ParsedDiagram {
+        private final PlantUmlDiagram diagram;
+        private final JavaClassDiagramAssociation javaClassDiagramAssociation;
+
+        private ParsedDiagram(PlantUmlDiagram diagram) {
+            this.diagram = diagram;
+            this.javaClassDiagramAssociation = new JavaClassDiagramAssociation(diagram);
+        }
+
+        PlantUmlDiagram getDiagram() {
+            return diagram;
+        }
+
+        JavaClassDiagramAssociation getJavaClassDiagramAssociation() {
+            return javaClassDiagramAssociation;
+        }
+    }
+
+    private static class DiagramKey {
+        private final String url;
+        private final String version;
+
+        private DiagramKey(String url, String version) {
+            this.url = url;
+            this.version = version;
+        }
+
+        static DiagramKey of(URL url) {
+            return new DiagramKey(url.toExternalForm(), md5sumOf(url));
+        }
+
+        private static String md5sumOf(URL url) {
+            MessageDigest md5Digest = getMd5Digest();
+            try (InputStream in = new DigestInputStream(url.openStream(), md5Digest)) {
+                byte[] buffer = new byte[8192];
+                while (in.read(buffer) >= 0) {
+                    // just digesting the content
+                }
+            } catch (IOException e) {
+                throw new PlantUmlParseException("Could not parse diagram from " + url, e);
+            }
+            return BaseEncoding.base16().encode(md5Digest.digest());
+        }
+
+        private static MessageDigest getMd5Digest() {
+            try {
+                return MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Every Java platform must support MD5", e);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, version);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final DiagramKey other = (DiagramKey) obj;
+            return Objects.equals(this.url, other.url)
+                    && Objects.equals(this.version, other.version);
+        }
+    }
+}
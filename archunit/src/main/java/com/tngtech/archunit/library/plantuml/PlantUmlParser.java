@@ -15,67 +15,62 @@
  */
 package com.tngtech.archunit.library.plantuml;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 import com.google.common.base.Function;
-import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.io.CharStreams;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.library.plantuml.PlantUmlPatterns.PlantUmlComponentMatcher;
 import com.tngtech.archunit.library.plantuml.PlantUmlPatterns.PlantUmlDependencyMatcher;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.base.Predicates.containsPattern;
-import static com.google.common.base.Predicates.not;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+/**
+ * Parses a diagram line by line while reading it, i.e. the diagram file is never held in memory as a whole.
+ * Only the matched components and dependency declarations are kept until all components are known.
+ */
 class PlantUmlParser {
     private final PlantUmlPatterns plantUmlPatterns = new PlantUmlPatterns();
 
     PlantUmlDiagram parse(URL url) {
         checkNotNull(url, "URL must not be null");
-        return createDiagram(readLines(url));
-    }
-
-    private PlantUmlDiagram createDiagram(List<String> rawDiagramLines) {
-        List<String> diagramLines = filterOutComments(rawDiagramLines);
-        Set<PlantUmlComponent> components = parseComponents(diagramLines);
-        PlantUmlComponents plantUmlComponents = new PlantUmlComponents(components);
-
-        List<ParsedDependency> dependencies = parseDependencies(plantUmlComponents, diagramLines);
-
-        return new PlantUmlDiagram.Builder(plantUmlComponents)
-                .withDependencies(dependencies)
-                .build();
-    }
-
-    private List<String> filterOutComments(List<String> lines) {
-        return FluentIterable.from(lines).filter(not(containsPattern("^\\s*'"))).toList();
-    }
-
-    private List<String> readLines(URL url) {
-        try (InputStreamReader in = new InputStreamReader(url.openStream(), UTF_8)) {
-            return CharStreams.readLines(in);
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(url.openStream(), UTF_8))) {
+            return createDiagram(in);
         } catch (IOException e) {
             throw new PlantUmlParseException("Could not parse diagram from " + url, e);
         }
     }
 
-    private Set<PlantUmlComponent> parseComponents(List<String> plantUmlDiagramLines) {
-        return plantUmlPatterns.filterComponents(plantUmlDiagramLines)
-                .transform(toPlantUmlComponent())
-                .toSet();
+    private PlantUmlDiagram createDiagram(BufferedReader rawDiagramLines) throws IOException {
+        ImmutableSet.Builder<PlantUmlComponent> components = ImmutableSet.builder();
+        List<PlantUmlDependencyMatcher> dependencies = new ArrayList<>();
+        String line;
+        while ((line = rawDiagramLines.readLine()) != null) {
+            if (plantUmlPatterns.isComment(line)) {
+                continue;
+            }
+            for (PlantUmlComponentMatcher componentMatcher : plantUmlPatterns.tryMatchComponent(line).asSet()) {
+                components.add(createNewComponent(componentMatcher));
+            }
+            dependencies.addAll(plantUmlPatterns.matchDependencies(line));
+        }
+        PlantUmlComponents plantUmlComponents = new PlantUmlComponents(components.build());
+
+        return new PlantUmlDiagram.Builder(plantUmlComponents)
+                .withDependencies(parseDependencies(plantUmlComponents, dependencies))
+                .build();
     }
 
-    private ImmutableList<ParsedDependency> parseDependencies(PlantUmlComponents plantUmlComponents, List<String> plantUmlDiagramLines) {
+    private ImmutableList<ParsedDependency> parseDependencies(PlantUmlComponents plantUmlComponents, List<PlantUmlDependencyMatcher> matchers) {
         ImmutableList.Builder<ParsedDependency> result = ImmutableList.builder();
-        for (PlantUmlDependencyMatcher matcher : plantUmlPatterns.matchDependencies(plantUmlDiagramLines)) {
+        for (PlantUmlDependencyMatcher matcher : matchers) {
             PlantUmlComponent origin = findComponentMatching(plantUmlComponents, matcher.matchOrigin());
             PlantUmlComponent target = findComponentMatching(plantUmlComponents, matcher.matchTarget());
             result.add(new ParsedDependency(origin.getIdentifier(), target.getIdentifier()));
@@ -83,18 +78,7 @@ class PlantUmlParser {
         return result.build();
     }
 
-    private Function<String, PlantUmlComponent> toPlantUmlComponent() {
-        return new Function<String, PlantUmlComponent>() {
-            @Override
-            public PlantUmlComponent apply(String input) {
-                return createNewComponent(input);
-            }
-        };
-    }
-
-    private PlantUmlComponent createNewComponent(String input) {
-        PlantUmlComponentMatcher matcher = plantUmlPatterns.matchComponent(input);
-
+    private PlantUmlComponent createNewComponent(PlantUmlComponentMatcher matcher) {
         ComponentName componentName = new ComponentName(matcher.matchComponentName());
         ImmutableSet<Stereotype> immutableStereotypes = identifyStereotypes(matcher, componentName);
         Optional<Alias> alias = Optional.ofNullable(matcher.matchAlias().transform(TO_ALIAS).orNull());
@@ -25,14 +25,13 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.google.common.base.Optional;
-import com.google.common.base.Predicate;
 import com.google.common.base.Splitter;
-import com.google.common.collect.FluentIterable;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.base.Preconditions.checkState;
 
 class PlantUmlPatterns {
+    private static final Pattern COMMENT_PATTERN = Pattern.compile("^\\s*'");
+
     private static final String COMPONENT_NAME_GROUP_NAME = "componentName";
     private static final String COMPONENT_NAME_FORMAT = "\\[" + capture(anythingBut("\\[\\]"), COMPONENT_NAME_GROUP_NAME) + "]";
 
@@ -64,30 +63,21 @@ class PlantUmlPatterns {
         return "[^" + charsJoined + "]+";
     }
 
-    FluentIterable<String> filterComponents(List<String> lines) {
-        return FluentIterable.from(lines)
-                .filter(matches(PLANTUML_COMPONENT_PATTERN));
-    }
-
-    PlantUmlComponentMatcher matchComponent(String input) {
-        return new PlantUmlComponentMatcher(input);
+    boolean isComment(String line) {
+        return COMMENT_PATTERN.matcher(line).find();
     }
 
-    private Predicate<String> matches(final Pattern pattern) {
-        return new Predicate<String>() {
-            @Override
-            public boolean apply(String input) {
-                return pattern.matcher(input).matches();
-            }
-        };
+    Optional<PlantUmlComponentMatcher> tryMatchComponent(String line) {
+        Matcher componentMatcher = PLANTUML_COMPONENT_PATTERN.matcher(line);
+        return componentMatcher.matches()
+                ? Optional.of(new PlantUmlComponentMatcher(componentMatcher, STEREOTYPE_PATTERN.matcher(line)))
+                : Optional.<PlantUmlComponentMatcher>absent();
     }
 
-    Iterable<PlantUmlDependencyMatcher> matchDependencies(List<String> diagramLines) {
+    List<PlantUmlDependencyMatcher> matchDependencies(String line) {
         List<PlantUmlDependencyMatcher> result = new ArrayList<>();
-        for (String line : diagramLines) {
-            result.addAll(PlantUmlDependencyMatcher.tryParseFromLeftToRight(line));
-            result.addAll(PlantUmlDependencyMatcher.tryParseFromRightToLeft(line));
-        }
+        result.addAll(PlantUmlDependencyMatcher.tryParseFromLeftToRight(line));
+        result.addAll(PlantUmlDependencyMatcher.tryParseFromRightToLeft(line));
         return result;
     }
 
@@ -95,11 +85,9 @@ class PlantUmlPatterns {
         private final Matcher componentMatcher;
         private final Matcher stereotypeMatcher;
 
-        PlantUmlComponentMatcher(String input) {
-            componentMatcher = PLANTUML_COMPONENT_PATTERN.matcher(input);
-            checkState(componentMatcher.matches(), "input %s does not match pattern %s", input, PLANTUML_COMPONENT_PATTERN);
-
-            stereotypeMatcher = STEREOTYPE_PATTERN.matcher(input);
+        private PlantUmlComponentMatcher(Matcher componentMatcher, Matcher stereotypeMatcher) {
+            this.componentMatcher = componentMatcher;
+            this.stereotypeMatcher = stereotypeMatcher;
         }
 
         String matchComponentName() {
@@ -1,6 +1,9 @@
 package com.tngtech.archunit.base;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.ImmutableList;
 import com.tngtech.java.junit.dataprovider.DataProvider;
@@ -184,6 +187,59 @@ public class DescribedPredicateTest {
         assertThat(equalTo(5).onResultOf(constant(6))).rejects(new Object());
     }
 
+    @Test
+    public void and_and_or_evaluate_cheaper_operand_first() {
+        List<String> evaluated = new ArrayList<>();
+        DescribedPredicate<Object> expensive = rejectingAndRecording("expensive", evaluated).withEvaluationCost(EvaluationCost.EXPENSIVE);
+        DescribedPredicate<Object> cheap = rejectingAndRecording("cheap", evaluated).withEvaluationCost(EvaluationCost.CHEAP);
+
+        assertThat(expensive.and(cheap)).hasDescription("expensive and cheap").rejects(new Object());
+        assertThat(evaluated).containsExactly("cheap");
+
+        evaluated.clear();
+        assertThat(expensive.or(cheap)).rejects(new Object());
+        assertThat(evaluated).containsExactly("cheap", "expensive");
+        assertThat(expensive.and(cheap).getEvaluationCost()).isEqualTo(EvaluationCost.EXPENSIVE);
+    }
+
+    @Test
+    public void operands_with_unknown_cost_are_evaluated_in_declaration_order() {
+        List<String> evaluated = new ArrayList<>();
+        DescribedPredicate<Object> unknown = rejectingAndRecording("unknown", evaluated);
+        DescribedPredicate<Object> expensive = rejectingAndRecording("expensive", evaluated).withEvaluationCost(EvaluationCost.EXPENSIVE);
+
+        assertThat(unknown.getEvaluationCost()).isEqualTo(EvaluationCost.UNKNOWN);
+        assertThat(unknown.and(expensive)).rejects(new Object());
+        assertThat(evaluated).containsExactly("unknown");
+
+        evaluated.clear();
+        assertThat(expensive.and(unknown)).rejects(new Object());
+        assertThat(evaluated).containsExactly("expensive");
+    }
+
+    @Test
+    public void memoized_works() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        DescribedPredicate<Object> predicate = new DescribedPredicate<Object>("counting") {
+            @Override
+            public boolean apply(Object input) {
+                evaluations.incrementAndGet();
+                return input instanceof String;
+            }
+        }.memoized();
+        Object first = "first";
+        Object second = new Object();
+
+        assertThat(predicate)
+                .hasDescription("counting")
+                .accepts(first)
+                .accepts(first)
+                .rejects(second)
+                .rejects(second);
+        assertThat(evaluations.get()).as("number of evaluations").isEqualTo(2);
+        assertThat(predicate.memoized()).isSameAs(predicate);
+    }
+
     @Test
     public void empty_works() {
         assertThat(empty())
@@ -243,4 +299,14 @@ public class DescribedPredicateTest {
     enum Foo {
         FIRST, SECOND, THIRD
     }
+
+    private static DescribedPredicate<Object> rejectingAndRecording(final String name, final List<String> evaluated) {
+        return new DescribedPredicate<Object>(name) {
+            @Override
+            public boolean apply(Object input) {
+                evaluated.add(name);
+                return false;
+            }
+        };
+    }
 }
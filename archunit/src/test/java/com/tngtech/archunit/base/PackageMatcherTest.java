@@ -1,5 +1,6 @@
 package com.tngtech.archunit.base;
 
+import com.google.common.base.Strings;
 import com.tngtech.archunit.base.PackageMatcher.Result;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
@@ -73,6 +74,10 @@ public class PackageMatcherTest {
             "so(*)me | some | null",
             "(**)so | awe.some.aso | awe.some.a",
             "so(**) | soan.some.we | an.some.we",
+            "(**)..(*) | a.b.c.d | a.b.c:d",
+            "some.(*)..(*) | some.a.b.c | a:c",
+            "..(*).(**) | a.b.c.d | c:d",
+            "(**).(**) | a.b.c.d | a.b.c:d",
     }, splitBy = "\\|")
     public void capture_groups(String matcher, String target, String groupString) {
         assertThat(PackageMatcher.of(matcher).match(target).isPresent())
@@ -87,6 +92,30 @@ public class PackageMatcherTest {
         }
     }
 
+    @Test
+    public void matches_identifiers_consisting_of_many_parts() {
+        String packageIdentifier = "com" + Strings.repeat(".*", 40) + ".(**)";
+        String aPackage = "com" + Strings.repeat(".pkg", 40) + ".more.end";
+
+        assertThat(PackageMatcher.of(packageIdentifier).match(aPackage).get().getGroup(1)).isEqualTo("more.end");
+        assertThat(PackageMatcher.of(packageIdentifier).matches(aPackage + ".")).as("package matches").isFalse();
+    }
+
+    @Test
+    public void group_zero_is_the_whole_package() {
+        PackageMatcher matcher = PackageMatcher.of("..service.(*)");
+
+        assertThat(matcher.match("some.service.api").get().getGroup(0)).isEqualTo("some.service.api");
+        assertThat(matcher.match("some.service.api").get().getNumberOfGroups()).isEqualTo(1);
+    }
+
+    @Test
+    public void reuses_result_for_the_same_package() {
+        PackageMatcher matcher = PackageMatcher.of("com.(*)..");
+
+        assertThat(matcher.match("com.mycompany.service").get()).isSameAs(matcher.match("com.mycompany.service").get());
+    }
+
     @Test
     public void should_reject_more_than_two_dots_in_a_row() {
         thrown.expect(IllegalArgumentException.class);
@@ -1,5 +1,8 @@
 package com.tngtech.archunit.base;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
@@ -15,6 +18,29 @@ public class PackageMatchersTest {
                 .rejects("matc.hother");
     }
 
+    @Test
+    public void reports_all_matching_package_identifiers() {
+        PackageMatchers matchers = PackageMatchers.of("..match..", "foo.(*)..", "..other..", "*.bar");
+
+        assertThat(matchers.getMatchingPackageIdentifiers("foo.match.other.bar"))
+                .containsExactly("..match..", "foo.(*)..", "..other..");
+        assertThat(matchers.getMatchingPackageIdentifiers("foo.bar"))
+                .containsExactly("foo.(*)..", "*.bar");
+        assertThat(matchers.getMatchingPackageIdentifiers("bar.foo")).isEmpty();
+    }
+
+    @Test
+    public void matches_many_package_identifiers_at_once() {
+        List<String> packageIdentifiers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            packageIdentifiers.add("..layer" + i + "..");
+        }
+        PackageMatchers matchers = PackageMatchers.of(packageIdentifiers);
+
+        assertThat(matchers.getMatchingPackageIdentifiers("com.layer42.layer99")).containsOnly("..layer42..", "..layer99..");
+        assertThat(matchers).accepts("layer0").rejects("com.layer100");
+    }
+
     @Test
     public void description() {
         assertThat(PackageMatchers.of("..foo..", "..bar.."))
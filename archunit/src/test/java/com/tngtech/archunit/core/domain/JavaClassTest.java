@@ -4,7 +4,9 @@ import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FilterInputStream;
 import java.io.Serializable;
+import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
 import java.nio.Buffer;
 import java.nio.charset.Charset;
 import java.nio.file.FileSystem;
@@ -22,6 +24,7 @@ import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.base.ArchUnitException.InvalidSyntaxUsageException;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.EvaluationCost;
 import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.core.domain.testobjects.AAccessingB;
 import com.tngtech.archunit.core.domain.testobjects.AExtendingSuperAImplementingInterfaceForA;
@@ -87,6 +90,8 @@ import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
 import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContext;
 import static com.tngtech.archunit.core.domain.TestUtils.importPackagesOf;
 import static com.tngtech.archunit.core.domain.TestUtils.simulateCall;
+import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Predicates.annotatedWith;
+import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Predicates.metaAnnotatedWith;
 import static com.tngtech.archunit.core.domain.properties.HasName.AndFullName.Predicates.fullNameMatching;
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
@@ -303,6 +308,24 @@ public class JavaClassTest {
                         Object.class.getName());
     }
 
+    @Test
+    public void assignability_within_imported_type_hierarchy_is_consistent_with_reflection() {
+        JavaClasses classes = importClasses(
+                ClassWithTwoFieldsAndTwoMethods.class, SuperclassWithFieldAndMethod.class, InterfaceWithMethod.class, Parent.class,
+                ChildWithFieldAndMethod.class, ParentWithFieldAndMethod.class, InterfaceWithFieldAndMethod.class);
+
+        for (JavaClass subtype : classes) {
+            for (JavaClass supertype : classes) {
+                boolean expected = supertype.reflect().isAssignableFrom(subtype.reflect());
+                String description = subtype.getSimpleName() + " assignable to " + supertype.getSimpleName();
+
+                assertThat(subtype.isAssignableTo(supertype.getName())).as(description).isEqualTo(expected);
+                assertThat(supertype.isAssignableFrom(subtype.getName())).as(description).isEqualTo(expected);
+                assertThat(supertype.getAllSubclasses().contains(subtype)).as(description).isEqualTo(expected && subtype != supertype);
+            }
+        }
+    }
+
     @Test
     public void isAnnotatedWith_type() {
         assertThat(importClassWithContext(Parent.class).isAnnotatedWith(SomeAnnotation.class))
@@ -376,6 +399,20 @@ public class JavaClassTest {
         assertThat(javaClass.isMetaAnnotatedWith(MetaAnnotationWithCyclicAnnotation.class)).isTrue();
     }
 
+    @Test
+    public void meta_annotation_type_names_contain_transitive_closure_of_annotation_type() {
+        JavaClasses classes = importClasses(AnnotationWithCyclicAnnotation.class, MetaAnnotationWithCyclicAnnotation.class, Retention.class);
+
+        assertThat(classes.get(AnnotationWithCyclicAnnotation.class).getMetaAnnotationTypeNames()).containsOnly(
+                AnnotationWithCyclicAnnotation.class.getName(),
+                MetaAnnotationWithCyclicAnnotation.class.getName(),
+                Retention.class.getName(),
+                Documented.class.getName(),
+                Target.class.getName());
+        assertThat(classes.get(MetaAnnotationWithCyclicAnnotation.class).getMetaAnnotationTypeNames())
+                .isEqualTo(classes.get(AnnotationWithCyclicAnnotation.class).getMetaAnnotationTypeNames());
+    }
+
     @Test
     public void allAccesses_contains_accesses_from_superclass() {
         JavaClass javaClass = importClasses(ClassWithTwoFieldsAndTwoMethods.class, SuperclassWithFieldAndMethod.class, Parent.class)
@@ -1650,6 +1687,20 @@ public class JavaClassTest {
         assertThat(assignableTo(System.class)).hasDescription("assignable to java.lang.System");
     }
 
+    @Test
+    public void predicates_wrapping_other_predicates_do_not_report_a_cost_lower_than_the_wrapped_one() {
+        DescribedPredicate<Object> unknownCost = DescribedPredicate.alwaysTrue();
+        DescribedPredicate<Object> cheap = DescribedPredicate.alwaysTrue().withEvaluationCost(EvaluationCost.CHEAP);
+
+        for (DescribedPredicate<?> predicate : ImmutableSet.of(
+                assignableTo(unknownCost), assignableFrom(unknownCost), containAnyMembersThat(unknownCost),
+                annotatedWith(unknownCost), metaAnnotatedWith(unknownCost))) {
+            assertThat(predicate.getEvaluationCost()).as(predicate.getDescription()).isEqualTo(EvaluationCost.UNKNOWN);
+        }
+        assertThat(assignableTo(cheap).getEvaluationCost()).isEqualTo(EvaluationCost.EXPENSIVE);
+        assertThat(annotatedWith(cheap).getEvaluationCost()).isEqualTo(EvaluationCost.MODERATE);
+    }
+
     @DataProvider
     public static Object[][] implement_match_cases() {
         return testForEach(
@@ -1,5 +1,7 @@
 package com.tngtech.archunit.core.domain;
 
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -10,8 +12,15 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.assignableTo;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAPackage;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.simpleNameEndingWith;
+import static com.tngtech.archunit.core.domain.JavaModifier.FINAL;
 import static com.tngtech.archunit.core.domain.TestUtils.importClassWithContext;
 import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContext;
+import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Predicates.annotatedWith;
+import static com.tngtech.archunit.core.domain.properties.HasModifiers.Predicates.modifier;
+import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.nameStartingWith;
 import static com.tngtech.archunit.testutil.Assertions.assertThatTypes;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -73,6 +82,29 @@ public class JavaClassesTest {
         assertThat(allOriginalElements.getDescription()).isEqualTo("customized");
     }
 
+    @Test
+    public void restriction_on_classes_answered_from_indexes_matches_the_same_classes_as_evaluating_every_class() {
+        JavaClasses classes = importClassesWithContext(SomeClass.class, SomeOtherClass.class,
+                ArrayList.class, List.class, String.class, Serializable.class, Deprecated.class);
+
+        for (DescribedPredicate<? super JavaClass> predicate : ImmutableSet.<DescribedPredicate<? super JavaClass>>of(
+                resideInAPackage("java.util.."),
+                resideInAPackage("java*..util"),
+                resideInAPackage("..domain.."),
+                simpleNameEndingWith("Class"),
+                nameStartingWith("java.lang.S"),
+                assignableTo(Serializable.class),
+                modifier(FINAL),
+                annotatedWith(Deprecated.class),
+                resideInAPackage("java..").and(assignableTo(Serializable.class)),
+                resideInAPackage("java.lang..").or(simpleNameEndingWith("OtherClass")),
+                resideInAPackage("java.lang..").or(EXIST))) {
+
+            assertThat(classes.that(predicate)).as("classes that " + predicate.getDescription())
+                    .containsExactlyElementsOf(evaluateEveryClass(classes, predicate));
+        }
+    }
+
     @Test
     public void contain_type() {
         assertThat(ALL_CLASSES.contain(getClass())).isFalse();
@@ -115,6 +147,16 @@ public class JavaClassesTest {
         classes.get(String.class);
     }
 
+    private static List<JavaClass> evaluateEveryClass(JavaClasses classes, DescribedPredicate<? super JavaClass> predicate) {
+        List<JavaClass> result = new ArrayList<>();
+        for (JavaClass javaClass : classes) {
+            if (predicate.apply(javaClass)) {
+                result.add(javaClass);
+            }
+        }
+        return result;
+    }
+
     private DescribedPredicate<JavaClass> haveTheNameOf(final Class<?> clazz) {
         return new DescribedPredicate<JavaClass>("have the name " + clazz.getSimpleName()) {
             @Override
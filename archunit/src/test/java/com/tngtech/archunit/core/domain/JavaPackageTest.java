@@ -34,6 +34,7 @@ import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_SIMPLE_NA
 import static com.tngtech.archunit.core.domain.JavaPackage.Functions.GET_CLASSES;
 import static com.tngtech.archunit.core.domain.JavaPackage.Functions.GET_RELATIVE_NAME;
 import static com.tngtech.archunit.core.domain.JavaPackage.Functions.GET_SUB_PACKAGES;
+import static com.tngtech.archunit.core.domain.TestUtils.importClassWithContext;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.archunit.testutil.Assertions.assertThatDependencies;
 import static com.tngtech.archunit.testutil.Assertions.assertThatPackages;
@@ -207,6 +208,20 @@ public class JavaPackageTest {
         assertThatTypes(javaLang.getAllClasses()).contain(Object.class, String.class, Annotation.class, Field.class);
     }
 
+    @Test
+    public void all_classes_only_contain_classes_of_the_package_tree() {
+        JavaPackage defaultPackage = importDefaultPackage(Object.class, String.class, Annotation.class, Field.class, Security.class);
+
+        JavaPackage javaLang = defaultPackage.getPackage("java.lang");
+        JavaClass security = defaultPackage.getPackage("java.security").getClass(Security.class);
+
+        assertThat(javaLang.getAllClasses().contains(javaLang.getClass(Object.class))).isTrue();
+        assertThat(javaLang.getAllClasses().contains(javaLang.getPackage("reflect").getClass(Field.class))).isTrue();
+        assertThat(javaLang.getAllClasses().contains(security)).isFalse();
+        assertThat(javaLang.getAllClasses().contains(importClassWithContext(Object.class))).isFalse();
+        assertThat(defaultPackage.getAllClasses()).contains(security).containsAll(javaLang.getAllClasses());
+    }
+
     @Test
     public void iterates_all_sub_packages() {
         JavaPackage defaultPackage = importDefaultPackage(
@@ -40,6 +40,18 @@ public class SourceCodeLocationTest {
         assertThat(sourceCodeLocation.getSourceFileName()).as("source file name").isEqualTo("Object.java");
     }
 
+    @Test
+    public void source_code_locations_of_the_same_line_are_shared() {
+        JavaClass javaClass = importClassWithContext(SomeClass.class);
+
+        assertThat(SourceCodeLocation.of(javaClass, 7)).isSameAs(SourceCodeLocation.of(javaClass, 7));
+        assertThat(SourceCodeLocation.of(javaClass)).isSameAs(javaClass.getSourceCodeLocation());
+        assertThat(SourceCodeLocation.of(javaClass, 8)).isNotEqualTo(SourceCodeLocation.of(javaClass, 7));
+        for (JavaAccess<?> access : javaClass.getAccessesFromSelf()) {
+            assertThat(access.getSourceCodeLocation()).isSameAs(SourceCodeLocation.of(javaClass, access.getLineNumber()));
+        }
+    }
+
     private JavaClass getClassWithoutSource() {
         for (JavaAccess<?> javaAccess : importClassWithContext(SomeClass.class).getAccessesFromSelf()) {
             if (javaAccess.getTargetOwner().isEquivalentTo(ArrayList.class)) {
@@ -109,6 +109,18 @@ public class ArchConditionTest {
         assertThat(events).containViolations("12 does not end with 1 and 12 is not greater than 15");
     }
 
+    @Test
+    public void only_built_in_conditions_do_not_require_allowed_events() {
+        ArchCondition<Integer> custom = greaterThan(1);
+        ArchCondition<Integer> builtIn = never(greaterThan(1));
+
+        assertThat(custom.requiresAllowedEvents()).as("custom condition requires allowed events").isTrue();
+        assertThat(builtIn.requiresAllowedEvents()).as("built-in condition requires allowed events").isFalse();
+        assertThat(builtIn.as("changed").requiresAllowedEvents()).as("changed description requires allowed events").isFalse();
+        assertThat(builtIn.and(custom).requiresAllowedEvents()).as("joined with custom condition requires allowed events").isTrue();
+        assertThat(builtIn.or(never(custom)).requiresAllowedEvents()).as("joined built-in conditions require allowed events").isFalse();
+    }
+
     @Test
     public void or_handles_all_violated_conditions_as_unit() {
         ArchCondition<Integer> condition = greaterThan(1).or(greaterThan(2)).or(greaterThan(3));
@@ -0,0 +1,69 @@
+package com.tngtech.archunit.lang;
+
+import java.util.List;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ArchRuleSetTest {
+    @Test
+    public void evaluates_every_rule_separately_in_order() {
+        ArchRuleSet ruleSet = ArchRuleSet.of(archRuleThatFails("first"), archRuleThatSucceeds("second"))
+                .and(archRuleThatFails("third"));
+
+        List<EvaluationResult> results = ruleSet.evaluate(importClasses(getClass()));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).getFailureReport().toString()).contains("Rule 'first'");
+        assertThat(results.get(1).hasViolation()).as("second result has violation").isFalse();
+        assertThat(results.get(2).getFailureReport().toString()).contains("Rule 'third'");
+    }
+
+    @Test
+    public void reports_all_failing_rules_together() {
+        final ArchRuleSet ruleSet = ArchRuleSet.of(archRuleThatFails("first"), archRuleThatSucceeds("second"), archRuleThatFails("third"));
+
+        assertThatThrownBy(new ThrowingCallable() {
+            @Override
+            public void call() {
+                ruleSet.check(importClasses(ArchRuleSetTest.class));
+            }
+        })
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Rule 'first'")
+                .hasMessageContaining("Rule 'third'");
+    }
+
+    @Test
+    public void passes_if_all_rules_are_satisfied() {
+        ArchRuleSet.of(archRuleThatSucceeds("first"), archRuleThatSucceeds("second")).check(importClasses(getClass()));
+    }
+
+    private static ArchRule archRuleThatSucceeds(String description) {
+        return createArchRuleWithSatisfied(true).as(description);
+    }
+
+    private static ArchRule archRuleThatFails(String description) {
+        return createArchRuleWithSatisfied(false).as(description);
+    }
+
+    private static ArchRule createArchRuleWithSatisfied(final boolean satisfied) {
+        return ArchRule.Factory.create(new AbstractClassesTransformer<JavaClass>("irrelevant") {
+            @Override
+            public Iterable<JavaClass> doTransform(JavaClasses collection) {
+                return collection;
+            }
+        }, new ArchCondition<JavaClass>("irrelevant") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                events.add(new SimpleConditionEvent(item, satisfied, "irrelevant"));
+            }
+        }, Priority.MEDIUM);
+    }
+}
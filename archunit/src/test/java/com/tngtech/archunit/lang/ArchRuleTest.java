@@ -3,11 +3,13 @@ package com.tngtech.archunit.lang;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.io.Files;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaClassesTest;
 import com.tngtech.archunit.lang.ArchConditionTest.ConditionWithInitAndFinish;
 import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.After;
@@ -18,15 +20,24 @@ import org.junit.rules.ExpectedException;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
+import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
 import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContext;
 import static com.tngtech.archunit.lang.ArchRule.Assertions.ARCHUNIT_IGNORE_PATTERNS_FILE_NAME;
+import static com.tngtech.archunit.lang.EvaluationConfiguration.MAX_NUMBER_OF_VIOLATIONS_PROPERTY_NAME;
+import static com.tngtech.archunit.lang.EvaluationConfiguration.PARALLEL_EVALUATION_PROPERTY_NAME;
+import static com.tngtech.archunit.lang.EvaluationConfiguration.PROFILING_PROPERTY_NAME;
 import static com.tngtech.archunit.lang.Priority.HIGH;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
@@ -37,6 +48,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class ArchRuleTest {
     @Rule
     public final ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
 
     @Before
     public void setUp() {
@@ -159,6 +172,187 @@ public class ArchRuleTest {
         assertThat(condition.eventsFromFinish.getViolating()).hasSize(1);
     }
 
+    @Test
+    public void rule_evaluation_passes_allowed_events_to_custom_conditions() {
+        ConditionWithInitAndFinish condition = new ConditionWithInitAndFinish("irrelevant") {
+            @Override
+            public void check(String item, ConditionEvents events) {
+                events.add(SimpleConditionEvent.satisfied(item, "satisfied"));
+            }
+        };
+
+        all(strings()).should(condition).evaluate(importClasses(getClass(), Object.class));
+
+        assertThat(condition.eventsFromFinish.getAllowed()).hasSize(2);
+    }
+
+    @Test
+    public void parallel_evaluation_reports_the_same_events_in_the_same_order_as_sequential_evaluation() {
+        List<String> sequentialViolations = evaluateWithEveryThirdNumberViolated(false);
+        List<String> parallelViolations = evaluateWithEveryThirdNumberViolated(true);
+
+        assertThat(sequentialViolations).hasSize(3334);
+        assertThat(parallelViolations).containsExactlyElementsOf(sequentialViolations);
+    }
+
+    @Test
+    public void parallel_evaluation_checks_conditions_that_are_not_parallelizable_sequentially() {
+        ArchConfiguration.get().setProperty(PARALLEL_EVALUATION_PROPERTY_NAME, "true");
+        final Set<Thread> checkingThreads = Collections.synchronizedSet(new HashSet<Thread>());
+
+        all(numbers(10000)).should(new ArchCondition<Integer>("not be parallelizable") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                checkingThreads.add(Thread.currentThread());
+            }
+
+            @Override
+            public boolean isParallelizable() {
+                return false;
+            }
+        }).evaluate(importClasses(getClass()));
+
+        assertThat(checkingThreads).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    public void evaluation_stops_after_the_given_number_of_violations() {
+        final List<Integer> checkedNumbers = new ArrayList<>();
+
+        EvaluationResult result = all(numbers(10000)).should(new ArchCondition<Integer>("not be divisible by three") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                checkedNumbers.add(item);
+                events.add(new SimpleConditionEvent(item, item % 3 != 0, item + " is divisible by three"));
+            }
+        }).stopAfterViolations(5).evaluate(importClasses(getClass()));
+
+        assertThat(checkedNumbers).hasSize(13);
+        assertThat(result.getFailureReport().getDetails())
+                .containsExactly("0 is divisible by three", "12 is divisible by three", "3 is divisible by three",
+                        "6 is divisible by three", "9 is divisible by three");
+        assertThat(result.getFailureReport().toString())
+                .contains("(>= 5 times - the maximum number of 5 violations to report has been reached)");
+    }
+
+    @Test
+    public void maximum_number_of_violations_can_be_configured_for_all_rules() {
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_VIOLATIONS_PROPERTY_NAME, "2");
+
+        EvaluationResult result = classes().should(ALWAYS_BE_VIOLATED).evaluate(importClasses(Object.class, String.class, Integer.class));
+
+        assertThat(result.getFailureReport().getDetails()).hasSize(2);
+        assertThat(result.getFailureReport().toString()).contains("(>= 2 times");
+    }
+
+    @Test
+    public void conditions_that_are_not_parallelizable_check_all_objects_but_report_only_the_maximum_number_of_violations() {
+        final List<Integer> checkedNumbers = new ArrayList<>();
+
+        EvaluationResult result = all(numbers(100)).should(new ArchCondition<Integer>("be collected") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                checkedNumbers.add(item);
+            }
+
+            @Override
+            public void finish(ConditionEvents events) {
+                for (Integer number : checkedNumbers) {
+                    events.add(SimpleConditionEvent.violated(number, "violated by " + number));
+                }
+            }
+
+            @Override
+            public boolean isParallelizable() {
+                return false;
+            }
+        }).stopAfterViolations(3).evaluate(importClasses(getClass()));
+
+        assertThat(checkedNumbers).hasSize(100);
+        assertThat(result.getFailureReport().getDetails()).containsExactly("violated by 0", "violated by 1", "violated by 2");
+    }
+
+    @Test
+    public void violations_are_streamed_to_the_violation_handler_during_evaluation() {
+        final List<String> streamedViolations = new ArrayList<>();
+        final List<Integer> checkedNumbers = new ArrayList<>();
+
+        EvaluationResult result = all(numbers(10)).should(new ArchCondition<Integer>("not be divisible by three") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                assertThat(streamedViolations).as("violations streamed before checking " + item).hasSize((item + 2) / 3);
+                checkedNumbers.add(item);
+                events.add(new SimpleConditionEvent(item, item % 3 != 0, item + " is divisible by three"));
+            }
+        }).streamViolationsTo(new ViolationHandler<Integer>() {
+            @Override
+            public void handle(Collection<Integer> violatingObjects, String message) {
+                streamedViolations.add(message);
+            }
+        }).evaluate(importClasses(getClass()));
+
+        assertThat(checkedNumbers).hasSize(10);
+        assertThat(streamedViolations).containsExactly(
+                "0 is divisible by three", "3 is divisible by three", "6 is divisible by three", "9 is divisible by three");
+        assertThat(result.hasViolation()).as("result has violation").isTrue();
+        assertThat(result.getFailureReport().getDetails())
+                .containsExactly("4 violations have been passed to the violation handler during the evaluation");
+        assertThat(result.getFailureReport().toString()).contains("was violated (4 times)");
+    }
+
+    @Test
+    public void evaluation_records_profile_if_profiling_is_enabled() {
+        ArchRule rule = all(numbers(100)).should(new ArchCondition<Integer>("not be divisible by three") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                events.add(new SimpleConditionEvent(item, item % 3 != 0, item + " is divisible by three"));
+            }
+        });
+
+        assertThat(rule.evaluate(importClasses(getClass())).getProfiles()).isEmpty();
+
+        ArchConfiguration.get().setProperty(PROFILING_PROPERTY_NAME, "true");
+        EvaluationProfile profile = getOnlyElement(rule.evaluate(importClasses(getClass())).getProfiles());
+
+        assertThat(profile.getRuleDescription()).isEqualTo("numbers should not be divisible by three");
+        assertThat(profile.getConditionDescription()).isEqualTo("not be divisible by three");
+        assertThat(profile.getNumberOfObjects()).isEqualTo(100);
+        assertThat(profile.getNumberOfEvents()).isEqualTo(100);
+        assertThat(profile.getWallTimeNanos()).isGreaterThanOrEqualTo(profile.getCheckNanos());
+    }
+
+    private List<String> evaluateWithEveryThirdNumberViolated(boolean parallel) {
+        ArchConfiguration.get().setProperty(PARALLEL_EVALUATION_PROPERTY_NAME, String.valueOf(parallel));
+        final List<String> violations = new ArrayList<>();
+        all(numbers(10000)).should(new ArchCondition<Integer>("not be divisible by three") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                events.add(new SimpleConditionEvent(item, item % 3 != 0, item + " is divisible by three"));
+            }
+
+            @Override
+            public void finish(ConditionEvents events) {
+                for (ConditionEvent event : events.getViolating()) {
+                    violations.addAll(event.getDescriptionLines());
+                }
+            }
+        }).evaluate(importClasses(getClass()));
+        return violations;
+    }
+
+    private ClassesTransformer<Integer> numbers(final int count) {
+        return new AbstractClassesTransformer<Integer>("numbers") {
+            @Override
+            public Iterable<Integer> doTransform(JavaClasses collection) {
+                List<Integer> result = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    result.add(i);
+                }
+                return result;
+            }
+        };
+    }
+
     private ClassesTransformer<String> strings() {
         return new AbstractClassesTransformer<String>("strings") {
             @Override
@@ -83,6 +83,31 @@ public class CompositeArchRuleTest {
         assertPriority(failureMessage, priority);
     }
 
+    @Test
+    public void parallel_evaluation_reports_the_same_result_as_sequential_evaluation() {
+        JavaClasses classes = importClasses(CompositeArchRuleTest.class, CompositeArchRule.class, ArchRule.class);
+        CompositeArchRule rule = CompositeArchRule.of(classes().should().bePrivate())
+                .and(archRuleThatSucceeds())
+                .and(classes().should().haveSimpleNameEndingWith("Impl"))
+                .and(classes().should().beInterfaces());
+
+        String sequentialReport = rule.evaluate(classes).getFailureReport().toString();
+        String parallelReport = rule.parallel().evaluate(classes).getFailureReport().toString();
+
+        assertThat(parallelReport).isEqualTo(sequentialReport);
+    }
+
+    @Test
+    public void reports_the_total_number_of_violations_if_the_violations_of_several_rules_are_limited() {
+        JavaClasses classes = importClasses(CompositeArchRuleTest.class, CompositeArchRule.class, ArchRule.class, EvaluationResult.class);
+        CompositeArchRule rule = CompositeArchRule.of(classes().should().bePrivate().stopAfterViolations(2))
+                .and(classes().should().beInterfaces().stopAfterViolations(1));
+
+        String report = rule.evaluate(classes).getFailureReport().toString();
+
+        assertThat(report).contains("(>= 3 times - not all violations have been reported)");
+    }
+
     private void assertPriority(String failureMessage, Priority priority) {
         assertThat(failureMessage).contains(String.format("[Priority: %s]", priority));
     }
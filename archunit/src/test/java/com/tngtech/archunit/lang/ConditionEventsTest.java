@@ -34,6 +34,22 @@ public class ConditionEventsTest {
         assertThat(events.isEmpty()).as("events are empty").isEqualTo(expectedEmpty);
     }
 
+    @Test
+    public void events_not_retaining_allowed_events_only_count_them() {
+        ConditionEvent violation = SimpleConditionEvent.violated("irrelevant", "violated");
+        ConditionEvents events = ConditionEvents.create(false);
+
+        events.add(SimpleConditionEvent.satisfied("irrelevant", "satisfied"));
+
+        assertThat(events.getAllowed()).isEmpty();
+        assertThat(events.isEmpty()).as("events are empty").isFalse();
+
+        events.add(violation);
+
+        assertThat(events.getViolating()).containsExactly(violation);
+        assertThat(events).containsExactly(violation);
+    }
+
     @Test
     public void handleViolations_reports_only_violations_referring_to_the_correct_type() {
         ConditionEvents events = events(
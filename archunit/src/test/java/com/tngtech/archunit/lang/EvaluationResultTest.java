@@ -68,6 +68,22 @@ public class EvaluationResultTest {
         assertThat(filtered.getFailureReport().getDetails()).containsOnly("keep first line1", "keep second line1", "keep second line2");
     }
 
+    @Test
+    public void can_limit_violations() {
+        EvaluationResult result = evaluationResultWith(
+                SimpleConditionEvent.violated(1, "first"),
+                SimpleConditionEvent.satisfied(2, "satisfied"),
+                SimpleConditionEvent.violated(3, "second"),
+                SimpleConditionEvent.violated(4, "third"));
+
+        EvaluationResult limited = result.limitViolations(2);
+
+        assertThat(limited.getFailureReport().getDetails()).containsExactly("first", "second");
+        assertThat(limited.getFailureReport().toString())
+                .contains("(>= 2 times - the maximum number of 2 violations to report has been reached)");
+        assertThat(result.getFailureReport().getDetails()).containsExactly("first", "second", "third");
+    }
+
     private EvaluationResult evaluationResultWith(ConditionEvent... events) {
         return new EvaluationResult(hasDescription("unimportant"), events(events), Priority.MEDIUM);
     }
@@ -4,10 +4,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import com.tngtech.archunit.base.Supplier;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.Test;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class SimpleConditionEventTest {
     @Test
@@ -27,4 +30,45 @@ public class SimpleConditionEventTest {
         SimpleConditionEvent.violated(88, "violated").handleWith(handler);
         assertThat(messages).containsExactly("88: violated");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void renders_supplied_message_only_once_and_only_when_needed() {
+        final List<String> suppliedMessages = new ArrayList<>();
+        Supplier<String> messageSupplier = new Supplier<String>() {
+            @Override
+            public String get() {
+                suppliedMessages.add("message");
+                return "message";
+            }
+        };
+
+        ConditionEvent event = SimpleConditionEvent.satisfied(77, messageSupplier);
+        assertThat(suppliedMessages).isEmpty();
+
+        assertThat(event.getDescriptionLines()).containsExactly("message");
+        assertThat(event.getDescriptionLines()).containsExactly("message");
+        ConditionEvents invertedEvents = new ConditionEvents();
+        event.addInvertedTo(invertedEvents);
+        assertThat(getOnlyElement(invertedEvents.getViolating()).getDescriptionLines()).containsExactly("message");
+        assertThat(suppliedMessages).hasSize(1);
+    }
+
+    @Test
+    public void rejects_empty_supplied_message_for_violation() {
+        final Supplier<String> emptyMessage = new Supplier<String>() {
+            @Override
+            public String get() {
+                return " ";
+            }
+        };
+
+        assertThatThrownBy(new ThrowingCallable() {
+            @Override
+            public void call() {
+                SimpleConditionEvent.violated(88, emptyMessage);
+            }
+        })
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Message may not be empty");
+    }
+}
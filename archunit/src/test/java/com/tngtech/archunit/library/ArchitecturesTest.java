@@ -1,6 +1,7 @@
 package com.tngtech.archunit.library;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -14,6 +15,7 @@ import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.lang.ViolationHandler;
 import com.tngtech.archunit.library.Architectures.LayeredArchitecture;
 import com.tngtech.archunit.library.Architectures.OnionArchitecture;
 import com.tngtech.archunit.library.testclasses.first.any.pkg.FirstAnyPkgClass;
@@ -335,6 +337,29 @@ public class ArchitecturesTest {
         assertThat(architecture.evaluate(classes).hasViolation()).as("result has violation").isFalse();
     }
 
+    @Test
+    public void layered_architecture_evaluates_layer_definitions_only_once_per_class() {
+        JavaClasses classes = new ClassFileImporter().importPackages(absolute("mayonlyaccesslayers"));
+        final List<String> evaluatedClassNames = new ArrayList<>();
+        DescribedPredicate<JavaClass> countingOriginPredicate = new DescribedPredicate<JavaClass>("origin") {
+            @Override
+            public boolean apply(JavaClass input) {
+                evaluatedClassNames.add(input.getName());
+                return input.getPackageName().endsWith(".origin");
+            }
+        };
+
+        layeredArchitecture()
+                .layer("Origin").definedBy(countingOriginPredicate)
+                .layer("Forbidden").definedBy(absolute("mayonlyaccesslayers.forbidden"))
+                .whereLayer("Origin").mayNotAccessAnyLayer()
+                .whereLayer("Origin").mayNotBeAccessedByAnyLayer()
+                .whereLayer("Forbidden").mayNotBeAccessedByAnyLayer()
+                .evaluate(classes);
+
+        assertThat(evaluatedClassNames).doesNotHaveDuplicates();
+    }
+
     @Test
     public void onion_architecture_description() {
         OnionArchitecture architecture = onionArchitecture()
@@ -430,6 +455,41 @@ public class ArchitecturesTest {
         assertPatternMatches(result.getFailureReport().getDetails(), expectedViolations.toPatterns());
     }
 
+    @Test
+    public void onion_architecture_stopping_after_violations_does_not_modify_the_original_rule() {
+        OnionArchitecture architecture = getTestOnionArchitecture();
+        JavaClasses classes = new ClassFileImporter().importPackages(absolute("onionarchitecture"));
+
+        OnionArchitecture stoppingAfterOneViolation = architecture.stopAfterViolations(1);
+        architecture.stopAfterViolations(1);
+
+        assertThat(stoppingAfterOneViolation).isNotSameAs(architecture);
+        assertThat(stoppingAfterOneViolation.evaluate(classes).getFailureReport().getDetails().size())
+                .isLessThan(architecture.evaluate(classes).getFailureReport().getDetails().size());
+        assertPatternMatches(architecture.evaluate(classes).getFailureReport().getDetails(), getExpectedOnionViolations().toPatterns());
+    }
+
+    @Test
+    public void onion_architecture_streaming_violations_does_not_modify_the_original_rule() {
+        OnionArchitecture architecture = getTestOnionArchitecture();
+        JavaClasses classes = new ClassFileImporter().importPackages(absolute("onionarchitecture"));
+
+        final List<String> streamedViolations = new ArrayList<>();
+        OnionArchitecture streaming = architecture.streamViolationsTo(new ViolationHandler<Object>() {
+            @Override
+            public void handle(Collection<Object> violatingObjects, String message) {
+                streamedViolations.add(message);
+            }
+        });
+
+        assertThat(streaming).isNotSameAs(architecture);
+        assertPatternMatches(architecture.evaluate(classes).getFailureReport().getDetails(), getExpectedOnionViolations().toPatterns());
+        assertThat(streamedViolations).isEmpty();
+
+        streaming.evaluate(classes);
+        assertThat(streamedViolations).isNotEmpty();
+    }
+
     @Test
     public void onion_architecture_rejects_empty_layers_by_default() {
         OnionArchitecture architecture = anOnionArchitectureWithEmptyLayers();
@@ -0,0 +1,56 @@
+package com.tngtech.archunit.library.dependencies;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.library.dependencies.testexamples.completedependencygraph.sevennodes.CompleteSevenNodesGraphRoot;
+import com.tngtech.archunit.library.dependencies.testexamples.cyclewithunbalanceddependencies.CycleWithUnbalancedDependenciesRoot;
+import com.tngtech.archunit.library.dependencies.testexamples.cyclewithunbalanceddependencies.onedependency.OneDependency;
+import com.tngtech.archunit.library.dependencies.testexamples.cyclewithunbalanceddependencies.thirtydependencies.ThirtyDependencies;
+import com.tngtech.archunit.library.dependencies.testexamples.cyclewithunbalanceddependencies.threedependencies.ThreeDependencies;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.library.dependencies.CycleConditions.beFreeOfCycles;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.SliceRuleTest.countCyclesInMessage;
+import static com.tngtech.archunit.library.dependencies.SliceRuleTest.getNumberOfCyclesInCompleteGraph;
+import static java.lang.System.lineSeparator;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CycleConditionsTest {
+
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
+    @Test
+    public void reports_all_cycles_between_classes() {
+        int expectedNumberOfCycles = getNumberOfCyclesInCompleteGraph(7);
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, String.valueOf(expectedNumberOfCycles));
+
+        String failureReport = getFailureReportForClassCyclesInPackageOf(CompleteSevenNodesGraphRoot.class);
+
+        assertThat(countCyclesInMessage(failureReport)).as("number of cycles detected").isEqualTo(expectedNumberOfCycles);
+        assertThat(failureReport).as("failure report").contains("(" + expectedNumberOfCycles + " times)");
+    }
+
+    @Test
+    public void reports_classes_and_dependencies_of_cycle() {
+        String failureReport = getFailureReportForClassCyclesInPackageOf(CycleWithUnbalancedDependenciesRoot.class);
+
+        assertThat(countCyclesInMessage(failureReport)).as("number of cycles detected").isEqualTo(1);
+        assertThat(failureReport)
+                .contains("Cycle detected: Class <" + OneDependency.class.getName() + "> -> " + lineSeparator())
+                .contains("1. Dependencies of Class <" + OneDependency.class.getName() + ">")
+                .contains("2. Dependencies of Class <" + ThirtyDependencies.class.getName() + ">")
+                .contains("(10 further dependencies have been omitted...)")
+                .contains("3. Dependencies of Class <" + ThreeDependencies.class.getName() + ">");
+    }
+
+    private String getFailureReportForClassCyclesInPackageOf(Class<?> packageRoot) {
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(packageRoot);
+        return classes().should(beFreeOfCycles()).evaluate(classes).getFailureReport().toString();
+    }
+}
@@ -1,5 +1,6 @@
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -15,21 +16,33 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Range;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.library.dependencies.Graph.Cycles;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.Rule;
 import org.junit.Test;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.DiscreteDomain.integers;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.common.collect.Sets.cartesianProduct;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.DETECTION_STRATEGY_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.DetectionStrategy.SHORTEST_CYCLE_PER_EDGE;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_DETECTION_TIME_MILLIS_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.PARALLEL_CYCLE_SEARCH_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.SliceRuleTest.getNumberOfCyclesInCompleteGraph;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class GraphTest {
     private static final Random random = new Random();
 
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
     @Test
     public void graph_without_cycles() {
         Graph<String, String> graph = new Graph<>();
@@ -163,6 +176,154 @@ public class GraphTest {
         assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
     }
 
+    @Test
+    public void finds_cycles_of_components_that_are_only_reachable_from_higher_nodes() {
+        Graph<Integer, Object> graph = new Graph<>();
+        graph.addNodes(ImmutableList.of(0, 1, 2, 3, 4));
+        graph.addEdges(ImmutableSet.of(
+                newEdge(0, 3),
+                newEdge(3, 4),
+                newEdge(4, 3),
+                newEdge(1, 2),
+                newEdge(2, 1)
+        ));
+
+        assertThat(graph.findCycles()).hasSize(2);
+    }
+
+    @Test
+    public void parallel_search_finds_the_same_cycles_as_sequential_search() {
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, "1000");
+        int numberOfComponents = 10;
+        int componentSize = 4;
+        Graph<Integer, Integer> graph = createGraphOfInterleavedCompleteComponents(numberOfComponents, componentSize);
+
+        List<Cycle<Integer, Integer>> sequentialCycles = ImmutableList.copyOf(graph.findCycles());
+        ArchConfiguration.get().setProperty(PARALLEL_CYCLE_SEARCH_PROPERTY_NAME, "true");
+        List<Cycle<Integer, Integer>> parallelCycles = ImmutableList.copyOf(graph.findCycles());
+
+        assertThat(sequentialCycles).hasSize(numberOfComponents * getNumberOfCyclesInCompleteGraph(componentSize));
+        assertThat(parallelCycles).containsExactlyElementsOf(sequentialCycles);
+    }
+
+    @Test
+    public void parallel_search_reports_the_same_cycles_as_sequential_search_if_the_maximum_number_of_cycles_is_reached() {
+        // complete components of size 4 have 20 cycles each, so the limit is reached within the third component
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, "50");
+        Graph<Integer, Integer> graph = createGraphOfInterleavedCompleteComponents(10, 4);
+
+        Cycles<Integer, Integer> sequentialCycles = graph.findCycles();
+        ArchConfiguration.get().setProperty(PARALLEL_CYCLE_SEARCH_PROPERTY_NAME, "true");
+        for (int i = 0; i < 10; i++) {
+            Cycles<Integer, Integer> parallelCycles = graph.findCycles();
+
+            assertThat(parallelCycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
+            assertThat(parallelCycles).containsExactlyElementsOf(sequentialCycles);
+        }
+        assertThat(sequentialCycles).hasSize(50);
+    }
+
+    private static Graph<Integer, Integer> createGraphOfInterleavedCompleteComponents(int numberOfComponents, int componentSize) {
+        Graph<Integer, Integer> graph = new Graph<>();
+        graph.addNodes(ContiguousSet.create(Range.closedOpen(0, numberOfComponents * componentSize), integers()));
+        for (int component = 0; component < numberOfComponents; component++) {
+            for (int i = 0; i < componentSize; i++) {
+                for (int j = 0; j < componentSize; j++) {
+                    if (i != j) {
+                        // interleave the nodes of all components
+                        graph.addEdges(singleton(integerEdge(i * numberOfComponents + component, j * numberOfComponents + component)));
+                    }
+                }
+            }
+            if (component > 0) {
+                graph.addEdges(singleton(integerEdge(component - 1, component)));
+            }
+        }
+        return graph;
+    }
+
+    @Test
+    public void shortest_cycle_strategy_finds_one_shortest_cycle_through_each_edge_of_a_cycle() {
+        ArchConfiguration.get().setProperty(DETECTION_STRATEGY_PROPERTY_NAME, SHORTEST_CYCLE_PER_EDGE.name());
+        Graph<Integer, Integer> graph = new Graph<>();
+        graph.addNodes(ImmutableList.of(0, 1, 2, 3, 4, 5, 6));
+        graph.addEdges(ImmutableSet.of(
+                integerEdge(0, 1),
+                integerEdge(1, 2),
+                integerEdge(1, 0),
+                integerEdge(2, 3),
+                integerEdge(2, 0),
+                integerEdge(3, 0),
+                integerEdge(4, 5),
+                integerEdge(5, 4),
+                integerEdge(6, 0)
+        ));
+
+        assertThat(graph.findCycles()).containsExactly(
+                createCycle(ImmutableList.of(0, 1, 0)),
+                createCycle(ImmutableList.of(0, 1, 2, 0)),
+                createCycle(ImmutableList.of(0, 1, 2, 3, 0)),
+                createCycle(ImmutableList.of(4, 5, 4)));
+    }
+
+    @Test
+    public void rejects_unknown_detection_strategy() {
+        ArchConfiguration.get().setProperty(DETECTION_STRATEGY_PROPERTY_NAME, "SHORTEST_CYCLES");
+        final Graph<Integer, Integer> graph = new Graph<>();
+
+        assertThatThrownBy(new ThrowingCallable() {
+            @Override
+            public void call() {
+                graph.findCycles();
+            }
+        })
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(DETECTION_STRATEGY_PROPERTY_NAME + "=SHORTEST_CYCLES")
+                .hasMessageContaining("[ALL_CYCLES, SHORTEST_CYCLE_PER_EDGE]");
+    }
+
+    @Test
+    public void finds_cycle_through_very_long_path() {
+        int numberOfNodes = 100000;
+        Graph<Integer, Integer> graph = new Graph<>();
+        graph.addNodes(ContiguousSet.create(Range.closedOpen(0, numberOfNodes), integers()));
+        for (int i = 0; i < numberOfNodes; i++) {
+            graph.addEdges(singleton(integerEdge(i, (i + 1) % numberOfNodes)));
+        }
+
+        Cycle<Integer, Integer> cycle = getOnlyElement(graph.findCycles());
+
+        assertThat(cycle.getEdges()).hasSize(numberOfNodes);
+    }
+
+    @Test
+    public void streams_cycles_to_handler_as_they_are_found() {
+        Graph<Integer, Integer> completeGraph = createCompleteGraph(4);
+        final List<Cycle<Integer, Integer>> streamedCycles = new ArrayList<>();
+
+        JohnsonCycleFinder.Result result = completeGraph.findCycles(new Graph.CycleHandler<Integer, Integer>() {
+            @Override
+            public void handle(Cycle<Integer, Integer> cycle) {
+                streamedCycles.add(cycle);
+            }
+        });
+
+        assertThat(streamedCycles).containsExactlyElementsOf(completeGraph.findCycles());
+        assertThat(result.getNumberOfCycles()).isEqualTo(streamedCycles.size());
+    }
+
+    @Test
+    public void stops_finding_cycles_once_max_detection_time_is_exceeded() {
+        Graph<Integer, Object> graph = RealLifeGraph.get();
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, String.valueOf(Integer.MAX_VALUE));
+        ArchConfiguration.get().setProperty(MAX_DETECTION_TIME_MILLIS_PROPERTY_NAME, "0");
+
+        Cycles<Integer, Object> cycles = graph.findCycles();
+
+        assertThat(cycles.maxDetectionTimeExceeded()).as("maximum detection time exceeded").isTrue();
+        assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isFalse();
+    }
+
     @SuppressWarnings("unchecked")
     private Graph<Integer, Integer> createCompleteGraph(int n) {
         ContiguousSet<Integer> integers = ContiguousSet.create(Range.closedOpen(0, n), integers());
@@ -23,6 +23,7 @@ import org.junit.runner.RunWith;
 import static com.google.common.math.IntMath.factorial;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.PARALLEL_EDGE_EXTRACTION_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
@@ -147,6 +148,17 @@ public class SliceRuleTest {
                 "Dependencies of Slice threedependencies"));
     }
 
+    @Test
+    public void parallel_edge_extraction_reports_the_same_cycles_as_sequential_edge_extraction() {
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, "1000");
+        String sequentialFailureReport = getFailureReportForCyclesInRootPackageOf(CompleteSevenNodesGraphRoot.class);
+
+        ArchConfiguration.get().setProperty(PARALLEL_EDGE_EXTRACTION_PROPERTY_NAME, "true");
+        String parallelFailureReport = getFailureReportForCyclesInRootPackageOf(CompleteSevenNodesGraphRoot.class);
+
+        assertThat(parallelFailureReport).isEqualTo(sequentialFailureReport);
+    }
+
     private List<String> filterLinesMatching(String text, final String regex) {
         return FluentIterable.from(Splitter.on(lineSeparator()).split(text))
                 .filter(new Predicate<String>() {
@@ -4,6 +4,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,8 +24,11 @@ import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.CompositeArchRule;
 import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.lang.ViolationHandler;
 import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
@@ -52,6 +56,7 @@ public class FreezingArchRuleTest {
     private static final String ALLOW_STORE_CREATION_PROPERTY_NAME = "freeze.store.default.allowStoreCreation";
     private static final String ALLOW_STORE_UPDATE_PROPERTY_NAME = "freeze.store.default.allowStoreUpdate";
     private static final String LINE_MATCHER_PROPERTY_NAME = "freeze.lineMatcher";
+    private static final String PROFILING_PROPERTY_NAME = "archRule.evaluation.profile";
 
     @Rule
     public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
@@ -115,6 +120,21 @@ public class FreezingArchRuleTest {
         violationStore.verifyStoredRule("some description", "first violation", "second violation");
     }
 
+    @Test
+    public void keeps_evaluation_profile_when_freezing_and_checking_violations() {
+        ArchConfiguration.get().setProperty(PROFILING_PROPERTY_NAME, "true");
+        TestViolationStore violationStore = new TestViolationStore();
+        ArchRule frozen = freeze(rule("some description").withViolations("first violation").create()).persistIn(violationStore);
+
+        EvaluationResult freezingResult = frozen.evaluate(importClasses(getClass()));
+        EvaluationResult checkingResult = frozen.evaluate(importClasses(getClass()));
+
+        assertThat(freezingResult.hasViolation()).as("result has violation").isFalse();
+        assertThat(freezingResult.getProfiles()).hasSize(1);
+        assertThat(freezingResult.getProfiles().get(0).getRuleDescription()).isEqualTo("some description");
+        assertThat(checkingResult.getProfiles()).hasSize(1);
+    }
+
     @Test
     public void passes_on_consecutive_calls_without_new_violations() {
         ArchRule input = rule("some description").withViolations("first violation", "second violation").create();
@@ -259,6 +279,28 @@ public class FreezingArchRuleTest {
                 .hasAnyViolationOf("violation", "equivalent one");
     }
 
+    @Test
+    public void passes_only_new_violations_to_the_violation_handler_after_the_evaluation() {
+        TestViolationStore violationStore = new TestViolationStore();
+
+        createFrozen(violationStore, rule("some description").withViolations("first violation").create());
+
+        final List<String> handledViolations = new ArrayList<>();
+        ArchRule frozen = freeze(rule("some description").withViolations("first violation", "second violation").create())
+                .persistIn(violationStore)
+                .streamViolationsTo(new ViolationHandler<String>() {
+                    @Override
+                    public void handle(Collection<String> violatingObjects, String message) {
+                        handledViolations.add(message);
+                    }
+                });
+
+        EvaluationResult result = frozen.evaluate(importClasses(getClass()));
+
+        assertThat(handledViolations).containsExactly("second violation");
+        assertThat(result.getFailureReport().getDetails()).containsExactly("second violation");
+    }
+
     @DataProvider
     public static List<List<String>> different_line_separators_to_store_and_read() {
         String windowsLineSeparator = "\r\n";
@@ -374,6 +416,24 @@ public class FreezingArchRuleTest {
                 .hasOnlyViolations(frozenViolations[1], "third violation");
     }
 
+    @Test
+    public void default_violation_store_keeps_all_rules_frozen_in_parallel() throws IOException {
+        useTemporaryDefaultStorePath();
+        ArchConfiguration.get().setProperty(ALLOW_STORE_CREATION_PROPERTY_NAME, "true");
+
+        CompositeArchRule.of(freeze(rule("first rule").withViolations("first violation").create()))
+                .and(freeze(rule("second rule").withViolations("second violation").create()))
+                .parallel()
+                .check(importClasses(getClass()));
+
+        assertThatRule(freeze(rule("first rule").withViolations("first violation", "new violation").create()))
+                .checking(importClasses(getClass()))
+                .hasOnlyViolations("new violation");
+        assertThatRule(freeze(rule("second rule").withViolations("second violation", "new violation").create()))
+                .checking(importClasses(getClass()))
+                .hasOnlyViolations("new violation");
+    }
+
     @Test
     public void existing_violation_store_can_be_updated_when_creation_is_disabled() throws IOException {
         useTemporaryDefaultStorePath();
@@ -661,7 +721,9 @@ public class FreezingArchRuleTest {
 
         @Override
         public void handleWith(Handler handler) {
-            throw new UnsupportedOperationException("Implement me");
+            for (String line : descriptionLines) {
+                handler.handle(Collections.singleton(line), line);
+            }
         }
 
         ViolatedEvent apply(Function<String, String> textModifier) {
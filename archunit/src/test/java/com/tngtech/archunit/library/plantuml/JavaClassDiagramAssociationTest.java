@@ -38,6 +38,20 @@ public class JavaClassDiagramAssociationTest {
                 .containsOnly(expectedPackageIdentifier);
     }
 
+    @Test
+    public void class_matching_several_stereotypes_of_the_same_component_is_contained_in_that_component_only() {
+        JavaClassDiagramAssociation javaClassDiagramAssociation = createAssociation(TestDiagram.in(temporaryFolder)
+                .component("A").withStereoTypes("..simpledependency..", "..origin", "..noclasshere")
+                .component("B").withStereoTypes("..noclasshere..")
+                .write());
+
+        JavaClass clazz = importClassWithContext(SomeOriginClass.class);
+
+        assertThat(javaClassDiagramAssociation.getPackageIdentifiersFromComponentOf(clazz))
+                .as("package identifiers of " + clazz.getName())
+                .containsOnly("..simpledependency..", "..origin", "..noclasshere");
+    }
+
     @Test
     public void get_target_package_identifiers_of_class() {
         String expectedTarget1 = "..target1";
@@ -0,0 +1,77 @@
+package com.tngtech.archunit.library.plantuml;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+import static java.nio.file.Files.copy;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+public class PlantUmlDiagramCacheTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final PlantUmlDiagramCache cache = new PlantUmlDiagramCache();
+
+    @Test
+    public void reuses_parsed_diagram_for_unchanged_file() {
+        URL url = toUrl(TestDiagram.in(temporaryFolder)
+                .component("A").withStereoTypes("..origin..")
+                .write());
+
+        assertThat(cache.get(url)).isSameAs(cache.get(url));
+    }
+
+    @Test
+    public void parses_diagram_again_if_file_has_changed() throws IOException {
+        File file = TestDiagram.in(temporaryFolder)
+                .component("A").withStereoTypes("..origin..")
+                .write();
+        PlantUmlDiagramCache.ParsedDiagram first = cache.get(toUrl(file));
+
+        File changedDiagram = TestDiagram.in(temporaryFolder)
+                .component("Changed").withStereoTypes("..changed..")
+                .write();
+        copy(changedDiagram.toPath(), file.toPath(), REPLACE_EXISTING);
+        PlantUmlDiagramCache.ParsedDiagram second = cache.get(toUrl(file));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(getOnlyElement(second.getDiagram().getAllComponents()).getComponentName().asString()).isEqualTo("Changed");
+    }
+
+    @Test
+    public void parses_diagram_again_if_file_has_been_rewritten_with_same_size_and_modification_time() throws IOException {
+        File file = TestDiagram.in(temporaryFolder)
+                .component("A").withStereoTypes("..origin..")
+                .write();
+        long lastModified = file.lastModified();
+        long length = file.length();
+        PlantUmlDiagramCache.ParsedDiagram first = cache.get(toUrl(file));
+
+        File changedDiagram = TestDiagram.in(temporaryFolder)
+                .component("B").withStereoTypes("..origin..")
+                .write();
+        copy(changedDiagram.toPath(), file.toPath(), REPLACE_EXISTING);
+        assertThat(file.setLastModified(lastModified)).as("modification time reset").isTrue();
+        assertThat(file.length()).as("size of rewritten file").isEqualTo(length);
+        PlantUmlDiagramCache.ParsedDiagram second = cache.get(toUrl(file));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(getOnlyElement(second.getDiagram().getAllComponents()).getComponentName().asString()).isEqualTo("B");
+    }
+
+    private static URL toUrl(File file) {
+        try {
+            return file.toURI().toURL();
+        } catch (MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}